@@ -0,0 +1,678 @@
+package SkipList;
+/**
+ * A list that picks its representation by size, for programs that hold many small lists
+ * next to a few very large ones. It starts as a plain array and moves its elements into
+ * a {@link SkipList} and then an {@link UnrolledSkipList} as it grows, and back as it shrinks.
+ *
+ * <h2>Representations:</h2>
+ * <ul>
+ *   <li><b>Inline Array:</b> Up to SMALL_CAPACITY elements in an {@code Object[]}, with no node per element
+ *       and no fast layer, which would be too sparse to help at this size</li>
+ *   <li><b>Linked:</b> A {@link SkipList} with its fast layer, and index levels once it is large enough</li>
+ *   <li><b>Unrolled:</b> An {@link UnrolledSkipList} from UNROLLED_THRESHOLD elements on, storing elements
+ *       in chunk arrays to save a node per element</li>
+ * </ul>
+ *
+ * <h2>Switching:</h2>
+ * <ul>
+ *   <li>An insert into a full inline array moves the elements into a {@link SkipList} first</li>
+ *   <li>A {@link SkipList} reaching UNROLLED_THRESHOLD elements is copied into an {@link UnrolledSkipList}</li>
+ *   <li>Each switch back only happens at half the size that triggered it, so a list hovering
+ *       around a boundary does not flap between representations</li>
+ *   <li>Every switch is one O(n) bulk copy, paid for by the O(n) inserts or removes since the last one</li>
+ * </ul>
+ *
+ * Iteration, streams and bulk operations go to the backend when there is one, so they run at its
+ * speed rather than through one positional {@code get} per element:
+ * <ul>
+ *   <li>Iterators wrap the backend's list iterator and re-attach to the new representation
+ *       when their own {@code add} or {@code remove} switches it</li>
+ *   <li>{@code subList} views iterate through these iterators and clear through {@code removeRange}</li>
+ *   <li>Structural changes bump {@code modCount}, so iterators stay fail-fast across switches</li>
+ *   <li>A switch clears the old backend, so a spliterator still traversing it fails fast
+ *       instead of running over stale elements</li>
+ * </ul>
+ *
+ * @param <E> the type of elements in this list
+ */
+public class HybridList<E> extends java.util.AbstractList<E> {
+    /** Elements of an inline list, or null while a backend holds them */
+    private Object[] elements;
+
+    /** Number of elements in the inline array; unused while a backend holds them */
+    private int size;
+
+    /** List holding the elements once the inline array was outgrown, or null while inline */
+    private java.util.List<E> backend;
+
+    /** Policy for the fast layer of {@link SkipList} backends */
+    private final RebalancePolicy policy;
+
+    /** Shared array of empty inline lists, replaced on the first insert */
+    private static final Object[] EMPTY = {};
+
+    /** Maximum number of elements held inline */
+    private static final int SMALL_CAPACITY = 64;
+
+    /** Size from which a linked backend is replaced by an unrolled one */
+    private static final int UNROLLED_THRESHOLD = 1 << 20;
+
+    /**
+     * Constructs an empty list using the default rebalance policy for its linked representation.
+     */
+    public HybridList() {
+        this(RebalancePolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list whose linked representation lays out its fast layer by the given policy.
+     *
+     * @param policy The rebalance policy for the linked representation
+     * @throws NullPointerException if the policy is null
+     */
+    public HybridList(RebalancePolicy policy) {
+        this.policy = java.util.Objects.requireNonNull(policy);
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Constructs a list containing the elements of the collection, in iteration order,
+     * directly in the representation that suits its size.
+     *
+     * @param c Collection whose elements are placed into this list
+     * @throws NullPointerException if the collection is null
+     */
+    public HybridList(java.util.Collection<? extends E> c) {
+        this(c, RebalancePolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs a list containing the elements of the collection, in iteration order,
+     * directly in the representation that suits its size.
+     *
+     * @param c      Collection whose elements are placed into this list
+     * @param policy The rebalance policy for the linked representation
+     * @throws NullPointerException if the collection or the policy is null
+     */
+    public HybridList(java.util.Collection<? extends E> c, RebalancePolicy policy) {
+        this.policy = java.util.Objects.requireNonNull(policy);
+        Object[] source = c.toArray();
+        if (source.length <= SMALL_CAPACITY) {
+            elements = java.util.Arrays.copyOf(source, source.length, Object[].class);
+            size = source.length;
+        } else if (source.length < UNROLLED_THRESHOLD) {
+            backend = new SkipList<>(c, policy);
+        } else {
+            backend = new UnrolledSkipList<>(c);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return The number of elements in this list
+     */
+    @Override
+    public int size() {
+        return backend == null ? size : backend.size();
+    }
+
+    /**
+     * Returns the element at the specified position.
+     *
+     * @param index Index of the element to return
+     * @return The element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (backend != null) return backend.get(index);
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return (E) elements[index];
+    }
+
+    /**
+     * Replaces the element at the specified position in place.
+     * This is not a structural modification and never switches representation.
+     *
+     * @param index   Index of the element to replace
+     * @param element Element to be stored at the specified position
+     * @return The element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        if (backend != null) return backend.set(index, element);
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        E previous = (E) elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    /**
+     * Appends an element, switching to a larger representation first if the current one is full.
+     *
+     * @param e Element to append to the list
+     * @return true (as specified by Collection.add)
+     */
+    @Override
+    public boolean add(E e) {
+        add(size(), e);
+        return true;
+    }
+
+    /**
+     * Inserts an element at the specified position. Inline lists shift the array tail up by one;
+     * an insert into a full inline array first moves the elements into a {@link SkipList}.
+     *
+     * @param index Index at which to insert the element
+     * @param element Element to insert
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, E element) {
+        if (backend == null) {
+            if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+            if (size == SMALL_CAPACITY) {
+                backend = new SkipList<>(listOf(elements, size), policy);
+                elements = null;
+                size = 0;
+            } else {
+                if (size == elements.length) {
+                    elements = java.util.Arrays.copyOf(elements, Math.min(SMALL_CAPACITY, Math.max(4, size + (size >> 1))));
+                }
+                System.arraycopy(elements, index, elements, index + 1, size - index);
+                elements[index] = element;
+                size++;
+                modCount++;
+                return;
+            }
+        }
+        backend.add(index, element);
+        modCount++;
+        grow();
+    }
+
+    /**
+     * Appends all elements of the collection in iteration order.
+     *
+     * @param c Collection containing elements to be added
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean addAll(java.util.Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * Inserts all elements of the collection at the specified position in one step.
+     * Inline lists splice the elements into a new array and move to the representation that
+     * suits the combined size; backends insert the whole collection through their own bulk insert.
+     *
+     * @param index Index at which to insert the first element
+     * @param c     Collection containing elements to be added
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean addAll(int index, java.util.Collection<? extends E> c) {
+        if (backend != null) {
+            if (!backend.addAll(index, c)) return false;
+            modCount++;
+            grow();
+            return true;
+        }
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        Object[] added = c.toArray();
+        if (added.length == 0) return false;
+        Object[] merged = new Object[size + added.length];
+        System.arraycopy(elements, 0, merged, 0, index);
+        System.arraycopy(added, 0, merged, index, added.length);
+        System.arraycopy(elements, index, merged, index + added.length, size - index);
+        if (merged.length <= SMALL_CAPACITY) {
+            elements = merged;
+            size = merged.length;
+        } else {
+            java.util.List<E> all = listOf(merged, merged.length);
+            backend = merged.length < UNROLLED_THRESHOLD ? new SkipList<>(all, policy) : new UnrolledSkipList<>(all);
+            elements = null;
+            size = 0;
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the element at the specified position, switching to a smaller representation
+     * once the list has shrunk to half the size at which it switched up.
+     *
+     * @param index Index of element to remove
+     * @return The removed element
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        E removed;
+        if (backend == null) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+            removed = (E) elements[index];
+            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+            elements[--size] = null;
+        } else {
+            removed = backend.remove(index);
+            shrink();
+        }
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes all elements matching the predicate in one sweep. Inline lists test every element
+     * before moving any, so a throwing predicate leaves the list unchanged; backends run their own
+     * sweep, and the list then switches down if it has shrunk far enough.
+     *
+     * @param filter Predicate returning true for elements to remove
+     * @return true if any elements were removed
+     * @throws NullPointerException if the filter is null
+     * @throws java.util.ConcurrentModificationException if the filter modifies an inline list structurally
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(java.util.function.Predicate<? super E> filter) {
+        java.util.Objects.requireNonNull(filter);
+        if (backend != null) {
+            if (!backend.removeIf(filter)) return false;
+            modCount++;
+            shrink();
+            return true;
+        }
+        int expectedModCount = modCount;
+        long matched = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test((E) elements[i])) matched |= 1L << i;
+        }
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
+        }
+        if (matched == 0) return false;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((matched & 1L << i) == 0) elements[kept++] = elements[i];
+        }
+        java.util.Arrays.fill(elements, kept, size, null);
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes all elements that are contained in the specified collection.
+     * Runs as a single {@link #removeIf} sweep.
+     *
+     * @param c Collection of elements to remove
+     * @return true if the list changed
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean removeAll(java.util.Collection<?> c) {
+        java.util.Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Retains only the elements that are contained in the specified collection.
+     * Runs as a single {@link #removeIf} sweep.
+     *
+     * @param c Collection of elements to keep
+     * @return true if the list changed
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean retainAll(java.util.Collection<?> c) {
+        java.util.Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Removes all elements, returning to the empty inline representation.
+     */
+    @Override
+    public void clear() {
+        elements = EMPTY;
+        size = 0;
+        backend = null;
+        modCount++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the element, or -1 if absent,
+     * using the backend's own scan when there is one.
+     *
+     * @param o Element to search for
+     * @return The index of the first occurrence, or -1
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (backend != null) return backend.indexOf(o);
+        for (int i = 0; i < size; i++) {
+            if (java.util.Objects.equals(o, elements[i])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the element, or -1 if absent,
+     * using the backend's own scan when there is one.
+     *
+     * @param o Element to search for
+     * @return The index of the last occurrence, or -1
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (backend != null) return backend.lastIndexOf(o);
+        for (int i = size - 1; i >= 0; i--) {
+            if (java.util.Objects.equals(o, elements[i])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list, walking the backend's
+     * own iterator when there is one.
+     *
+     * @return An iterator over the elements in this list
+     */
+    @Override
+    public java.util.Iterator<E> iterator() {
+        return new Itr(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator over the elements in this list.
+     *
+     * @return A list iterator starting at the first element
+     */
+    @Override
+    public java.util.ListIterator<E> listIterator() {
+        return new Itr(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator starting at the specified position, positioned
+     * once by the backend when there is one.
+     *
+     * @param index Index of the first element to be returned by {@code next}
+     * @return A list iterator starting at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public java.util.ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size()) throw new IndexOutOfBoundsException();
+        return new Itr(index);
+    }
+
+    /**
+     * Creates a spliterator over the elements in this list: the backend's own spliterator when
+     * there is one, so streams split and traverse at its speed, and an iterator-based one while inline.
+     * The spliterator is bound to the representation at the time of the call.
+     *
+     * @return A spliterator over the elements in this list
+     */
+    @Override
+    public java.util.Spliterator<E> spliterator() {
+        return backend != null ? backend.spliterator() : super.spliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the elements in this list, through the backend's
+     * own stream when there is one.
+     *
+     * @return A sequential stream over the elements in this list
+     */
+    @Override
+    public java.util.stream.Stream<E> stream() {
+        return backend != null ? backend.stream() : super.stream();
+    }
+
+    /**
+     * Performs the action for each element in order, through the backend's direct loop when there is one.
+     *
+     * @param action Action to perform on each element
+     * @throws NullPointerException if the action is null
+     * @throws java.util.ConcurrentModificationException if the action modifies the list structurally
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(java.util.function.Consumer<? super E> action) {
+        java.util.Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        if (backend != null) {
+            backend.forEach(action);
+        } else {
+            for (int i = 0; i < size && modCount == expectedModCount; i++) {
+                action.accept((E) elements[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns an array containing all elements of this list in proper sequence.
+     *
+     * @return A new array containing the elements of this list
+     */
+    @Override
+    public Object[] toArray() {
+        return backend != null ? backend.toArray() : java.util.Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Removes the elements in [fromIndex, toIndex) in one step, as used by {@code subList(a, b).clear()}.
+     * Inline lists close the hole with one array copy; backends clear the range through their own
+     * sublist, and the list then switches down if it has shrunk far enough.
+     *
+     * @param fromIndex Index of the first element to remove
+     * @param toIndex   Index after the last element to remove
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) return;
+        if (backend == null) {
+            System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+            java.util.Arrays.fill(elements, size - (toIndex - fromIndex), size, null);
+            size -= toIndex - fromIndex;
+        } else {
+            backend.subList(fromIndex, toIndex).clear();
+            shrink();
+        }
+        modCount++;
+    }
+
+    /**
+     * Switches a backend that has shrunk to half the size it switched up at down to the next
+     * smaller representation: an unrolled list under UNROLLED_THRESHOLD / 2 elements becomes a
+     * {@link SkipList}, and a {@link SkipList} under SMALL_CAPACITY / 2 elements goes inline.
+     */
+    private void shrink() {
+        java.util.List<E> previous = backend;
+        int n = previous.size();
+        if (previous instanceof UnrolledSkipList) {
+            if (n >= UNROLLED_THRESHOLD / 2) return;
+            backend = new SkipList<>(previous, policy);
+        } else {
+            if (n >= SMALL_CAPACITY / 2) return;
+            elements = java.util.Arrays.copyOf(previous.toArray(), SMALL_CAPACITY / 2, Object[].class);
+            size = n;
+            backend = null;
+        }
+        previous.clear();
+    }
+
+    /**
+     * Copies a {@link SkipList} backend that has reached UNROLLED_THRESHOLD elements into an
+     * {@link UnrolledSkipList}.
+     */
+    private void grow() {
+        java.util.List<E> previous = backend;
+        if (previous instanceof SkipList && previous.size() >= UNROLLED_THRESHOLD) {
+            backend = new UnrolledSkipList<>(previous);
+            previous.clear();
+        }
+    }
+
+    /**
+     * Returns the first elements of an array as a list, for bulk-building a backend from them.
+     *
+     * @param array  Array holding the elements
+     * @param length Number of elements to include
+     * @return A fixed-size view of the elements
+     */
+    @SuppressWarnings("unchecked")
+    private java.util.List<E> listOf(Object[] array, int length) {
+        return (java.util.List<E>) java.util.Arrays.asList(array).subList(0, length);
+    }
+
+    /**
+     * List iterator that walks the backend's own list iterator while there is a backend and the
+     * inline array otherwise. Its {@code add} and {@code remove} go through the list's switching
+     * checks; when one of them switches representation, the iterator re-attaches to the new one
+     * at the same position.
+     */
+    private final class Itr implements java.util.ListIterator<E> {
+        /** Representation {@link #it} walks, or null while the list is inline */
+        private java.util.List<E> source;
+
+        /** Iterator over the backend, or null while the list is inline */
+        private java.util.ListIterator<E> it;
+
+        /** Index of the element returned by the next call to {@code next} */
+        private int cursor;
+
+        /** Index of the element last returned by {@code next} or {@code previous}, or -1 */
+        private int lastRet = -1;
+
+        /** Modification count the iterator expects the list to have */
+        private int expectedModCount = modCount;
+
+        Itr(int index) {
+            cursor = index;
+            attach();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            E e;
+            if (it != null) {
+                e = it.next();
+            } else {
+                if (cursor >= size) throw new java.util.NoSuchElementException();
+                e = (E) elements[cursor];
+            }
+            lastRet = cursor++;
+            return e;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E previous() {
+            checkForComodification();
+            E e;
+            if (it != null) {
+                e = it.previous();
+            } else {
+                if (cursor <= 0) throw new java.util.NoSuchElementException();
+                e = (E) elements[cursor - 1];
+            }
+            lastRet = --cursor;
+            return e;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            if (it != null) {
+                it.remove();
+                modCount++;
+                shrink();
+            } else {
+                HybridList.this.remove(lastRet);
+            }
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+            attach();
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastRet < 0) throw new IllegalStateException();
+            checkForComodification();
+            if (it != null) {
+                it.set(e);
+            } else {
+                HybridList.this.set(lastRet, e);
+            }
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            if (it != null) {
+                it.add(e);
+                modCount++;
+                grow();
+            } else {
+                HybridList.this.add(cursor, e);
+            }
+            cursor++;
+            lastRet = -1;
+            expectedModCount = modCount;
+            attach();
+        }
+
+        /**
+         * Points the iterator at the current representation if it has changed since the last call.
+         */
+        private void attach() {
+            if (it != null && source == backend) return;
+            source = backend;
+            it = backend == null ? null : backend.listIterator(cursor);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package SkipList;
+/**
+ * Decides how densely a {@link SkipList} lays out its fast layer and when it changes it.
+ * A policy is passed at construction and consulted for:
+ * <ul>
+ *   <li><b>Skip Distance:</b> The spacing to aim for at a given list size, and how fast to ramp towards it</li>
+ *   <li><b>Promotion:</b> When {@code add(E)} places a fast node before the tail, and whether
+ *       {@code add(int, E)} promotes the inserted node</li>
+ *   <li><b>Local Rebalancing:</b> The gaps above which a segment is split and below which it is merged</li>
+ *   <li><b>Relaying:</b> How far the skip distance may drift before the whole layer is re-laid</li>
+ *   <li><b>Access Sampling:</b> Whether reads are sampled to concentrate fast nodes where they land</li>
+ *   <li><b>Lookup Index:</b> Whether single-layer lists search a Fenwick tree or an anchor array</li>
+ * </ul>
+ *
+ * Denser layouts make lookups cheaper and cost more fast nodes and more splits under inserts;
+ * sparser layouts do the opposite. Five policies are provided:
+ * <ul>
+ *   <li>{@link #DEFAULT}: sqrt(n) spacing, at least 25, split above 2x and merge below 1/2</li>
+ *   <li>{@link #DENSE}: sqrt(n) / 2 spacing, at least 8, split above 1.5x and looked up through
+ *       an anchor array, for read-heavy use</li>
+ *   <li>{@link #SPARSE}: 2 sqrt(n) spacing, at least 64, split above 4x and merge below 1/4, for write-heavy use</li>
+ *   <li>{@link #RANDOMIZED}: every new node is promoted with probability 1 / skip, and nothing is split,
+ *       merged or re-laid</li>
+ *   <li>{@link #ADAPTIVE}: sqrt(n) fast nodes in total, split where reads land and merged where they do not,
+ *       for skewed reads</li>
+ * </ul>
+ *
+ * Implementations must be stateless: a policy is shared between a list and its copies.
+ * The split gap should stay above twice the merge gap, so that a merged segment split
+ * again does not fall straight back under the merge gap.
+ */
+public interface RebalancePolicy {
+    /**
+     * Matches the fixed behaviour of earlier versions.
+     */
+    RebalancePolicy DEFAULT = new RebalancePolicy() {
+        @Override
+        public int minSkip() {
+            return 25;
+        }
+
+        @Override
+        public int targetSkip(int size) {
+            return (int) Math.sqrt(size);
+        }
+    };
+
+    /**
+     * Read-optimised: twice as many fast nodes, kept within a tighter band, and found through
+     * an anchor array rather than a Fenwick tree.
+     */
+    RebalancePolicy DENSE = new RebalancePolicy() {
+        @Override
+        public int minSkip() {
+            return 8;
+        }
+
+        @Override
+        public int targetSkip(int size) {
+            return (int) Math.sqrt(size) / 2;
+        }
+
+        @Override
+        public int splitGap(int skip) {
+            return skip + skip / 2;
+        }
+
+        @Override
+        public boolean anchorLookup() {
+            return true;
+        }
+    };
+
+    /**
+     * Write-optimised: half as many fast nodes, and a wide band so segments are rarely split or merged.
+     */
+    RebalancePolicy SPARSE = new RebalancePolicy() {
+        @Override
+        public int minSkip() {
+            return 64;
+        }
+
+        @Override
+        public int targetSkip(int size) {
+            return 2 * (int) Math.sqrt(size);
+        }
+
+        @Override
+        public int splitGap(int skip) {
+            return 4 * skip;
+        }
+
+        @Override
+        public int mergeGap(int skip) {
+            return skip / 4;
+        }
+    };
+
+    /**
+     * Promotes each appended or inserted node with probability 1 / skip, as in a classic skip list.
+     * Gaps are geometrically distributed with mean skip, so no segment is ever split, merged or
+     * re-laid and every insert or remove costs the same whatever came before it. Removing a
+     * promoted node merges its gap into the next one as usual. Segments promoted while the list
+     * was small keep their closer spacing as it grows.
+     */
+    RebalancePolicy RANDOMIZED = new RebalancePolicy() {
+        @Override
+        public int minSkip() {
+            return 25;
+        }
+
+        @Override
+        public int targetSkip(int size) {
+            return (int) Math.sqrt(size);
+        }
+
+        @Override
+        public boolean promoteOnAppend(int pendingGap, int skip) {
+            return pendingGap > 1 && java.util.concurrent.ThreadLocalRandom.current().nextInt(skip) == 0;
+        }
+
+        @Override
+        public boolean promoteOnInsert(int skip) {
+            return java.util.concurrent.ThreadLocalRandom.current().nextInt(skip) == 0;
+        }
+
+        @Override
+        public int splitGap(int skip) {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int mergeGap(int skip) {
+            return 0;
+        }
+
+        @Override
+        public boolean shouldRelay(int laidSkip, int skip) {
+            return false;
+        }
+    };
+
+    /**
+     * Samples every fourth {@code get} and spends the sqrt(n) fast nodes a uniform layout would
+     * use where the sampled reads land: hot segments are split down to a few nodes while cold
+     * neighbours are merged up to eight times the skip distance. Segments are never merged for
+     * being short, so the split hot spots stay in place as long as they are read. Reads only
+     * record where they land; the splits and merges are made by the next insert or remove, or
+     * by {@link SkipList#rebalance()} after a read phase.
+     */
+    RebalancePolicy ADAPTIVE = new RebalancePolicy() {
+        @Override
+        public int minSkip() {
+            return 25;
+        }
+
+        @Override
+        public int targetSkip(int size) {
+            return (int) Math.sqrt(size);
+        }
+
+        @Override
+        public int splitGap(int skip) {
+            return 8 * skip;
+        }
+
+        @Override
+        public int mergeGap(int skip) {
+            return 0;
+        }
+
+        @Override
+        public int accessSampleInterval() {
+            return 4;
+        }
+    };
+
+    /**
+     * Returns the smallest skip distance ever used. Lists large enough to run with
+     * index levels keep their fast layer at this spacing.
+     *
+     * @return The minimum distance between fast nodes (at least 1)
+     */
+    int minSkip();
+
+    /**
+     * Returns the skip distance the ramp converges to for a list size.
+     * Bulk operations use it directly.
+     *
+     * @param size The list size
+     * @return The target distance between fast nodes, before applying {@link #minSkip()}
+     */
+    int targetSkip(int size);
+
+    /**
+     * Returns the factor by which the skip distance grows at most per adjustment.
+     *
+     * @return The growth factor (greater than 1)
+     */
+    default double growthFactor() {
+        return 1.5;
+    }
+
+    /**
+     * Moves the skip distance one step towards the target for a list size. By default it
+     * grows by {@link #growthFactor()} while the list outgrows it, capped at the target,
+     * and drops back to the target once it exceeds twice the target. Both the current
+     * skip and the target are taken as at least {@link #minSkip()}.
+     *
+     * @param size        The list size
+     * @param currentSkip The current skip distance
+     * @return The new skip distance
+     */
+    default int nextSkip(int size, int currentSkip) {
+        int target = Math.max(minSkip(), targetSkip(size));
+        int skip = Math.max(minSkip(), currentSkip);
+        if (skip > 2L * target) {
+            skip = target;
+        }
+        if (size > skip * growthFactor()) {
+            long grown = Math.max(skip + 1L, (long) (skip * growthFactor()));
+            skip = (int) Math.min(grown, target);
+        }
+        return skip;
+    }
+
+    /**
+     * Decides whether {@code add(E)} places a fast node before the tail.
+     *
+     * @param pendingGap Number of nodes since the last fast node before the tail, including the new tail
+     * @param skip       The current skip distance
+     * @return true to promote the node before the new tail
+     */
+    default boolean promoteOnAppend(int pendingGap, int skip) {
+        return pendingGap >= skip;
+    }
+
+    /**
+     * Decides whether {@code add(int, E)} promotes the inserted node to a fast node straight away.
+     * By default it does not, and the segment is split once it grows past {@link #splitGap(int)}.
+     *
+     * @param skip The current skip distance
+     * @return true to promote the inserted node
+     */
+    default boolean promoteOnInsert(int skip) {
+        return false;
+    }
+
+    /**
+     * Returns the gap above which a segment is split in two.
+     *
+     * @param skip The current skip distance
+     * @return The largest gap a segment may keep
+     */
+    default int splitGap(int skip) {
+        return 2 * skip;
+    }
+
+    /**
+     * Returns the gap below which an interior segment is merged into the next one.
+     *
+     * @param skip The current skip distance
+     * @return The smallest gap an interior segment may keep
+     */
+    default int mergeGap(int skip) {
+        return skip / 2;
+    }
+
+    /**
+     * Decides whether the fast layer should be re-laid for a new skip distance. The list then
+     * walks the layer a few segments per call, splitting and merging against the new gaps.
+     * By default it does once the skip distance has halved or doubled.
+     *
+     * @param laidSkip The skip distance the layer was last laid at
+     * @param skip     The current skip distance
+     * @return true to start re-laying
+     */
+    default boolean shouldRelay(int laidSkip, int skip) {
+        return skip >= 2 * laidSkip || 2 * skip <= laidSkip;
+    }
+
+    /**
+     * Returns how many {@code get} calls pass between two samples of the segment they land in,
+     * or 0 to keep the fast layer's density uniform. With sampling on, a list running with a
+     * single fast layer splits segments that keep getting sampled and merges neighbours that
+     * do not, keeping about as many fast nodes as a uniform layout. Reads only record samples;
+     * the splits and merges are made by the next insert or remove, or by
+     * {@link SkipList#rebalance()}. The merge gap should then be 0 so that local
+     * rebalancing leaves the split hot segments alone.
+     *
+     * @return The sampling interval, or 0 for no sampling
+     */
+    default int accessSampleInterval() {
+        return 0;
+    }
+
+    /**
+     * Decides which index a list running with a single fast layer keeps over its fast nodes
+     * to find the one covering a position. Both are built once the layer has 64 nodes:
+     * <ul>
+     *   <li>By default a Fenwick tree over the gaps, searched and updated in O(log F)</li>
+     *   <li>With this set, an array of the fast nodes' absolute indices, binary-searched in
+     *       O(log F) with one read per probe, and updated in O(sqrt(F)) per gap change;
+     *       edits clustered at one place cost next to nothing</li>
+     * </ul>
+     * The anchor array suits read-heavy or clustered-write use, the Fenwick tree scattered writes.
+     *
+     * @return true to search an anchor array instead of a Fenwick tree
+     */
+    default boolean anchorLookup() {
+        return false;
+    }
+}
@@ -1,7 +1,8 @@
 package SkipList;
 /**
  * A custom doubly-linked list implementation with an optimized fast-access layer.
- * This implementation uses a skip-list inspired approach for O(sqrt(n)) average case access time.
+ * This implementation uses a skip-list inspired approach for O(sqrt(n)) average case access time,
+ * and O(log n) once the list is large enough for index levels.
  *
  * <h2>Key Features:</h2>
  * <ul>
@@ -9,29 +10,39 @@ package SkipList;
  *   <li><b>Fast Layer:</b> A sparse layer of nodes pointing to main list nodes at regular intervals</li>
  *   <li><b>Gap-Based Indexing:</b> Fast layer uses relative gaps between nodes instead of absolute indices</li>
  *   <li><b>Dynamic Skip Distance:</b> Adjusts the distance between fast nodes based on list size</li>
- *   <li><b>Adaptive Rebalancing:</b> Maintains optimal fast layer density through periodic rebalancing</li>
+ *   <li><b>Local Rebalancing:</b> Segments are split or merged where they change, never rebuilt globally</li>
+ *   <li><b>Index Levels:</b> From HIERARCHY_THRESHOLD elements on, further gap-indexed levels are
+ *       stacked above a dense fast layer, making positional access O(log n)</li>
  * </ul>
  *
  * <h2>Performance Characteristics:</h2>
  * <ul>
  *   <li>{@code add(E)}: O(1) amortized - Optimized tail operations with gap tracking</li>
- *   <li>{@code add(int, E)}: O(sqrt(n)) average case - Uses fast layer for positioning</li>
- *   <li>{@code remove(int)}: O(sqrt(n)) average case - Uses fast layer for positioning</li>
+ *   <li>{@code get(int)}: O(sqrt(n)) average case with a single fast layer - Starts from the finger,
+ *       the lookup index or either end, whichever needs the fewest hops; O(log n) with index levels</li>
+ *   <li>{@code add(int, E)}: Positions like {@code get}, then splits or merges at most one segment</li>
+ *   <li>{@code remove(int)}: Positions like {@code get}, then splits or merges at most one segment</li>
  *   <li>{@code remove(Object)}: O(n) worst case, but optimized with chunk-based search</li>
- *   <li>{@code get(int)}: O(sqrt(n)) average case - Bidirectional search with fast layer</li>
+ *   <li>Access within d nodes of the finger (the last resolved position): O(d)</li>
  * </ul>
  *
  * <h2>Implementation Notes:</h2>
  * <ul>
  *   <li>The fast layer maintains sentinel nodes at head and tail for boundary handling</li>
  *   <li>Gap values are always maintained > 0 to prevent corrupted state</li>
- *   <li>Periodic rebalancing ensures optimal fast layer density</li>
+ *   <li>Segment gaps are kept between skip / 2 and 2 * skip by local splits and merges</li>
+ *   <li>Skip distances and rebalancing bounds come from a {@link RebalancePolicy} chosen at construction</li>
+ *   <li>After the skip distance drifts, a budgeted cursor re-lays the fast layer a few segments per call</li>
+ *   <li>{@link #deferIndex()} leaves the fast layer unbuilt during append-only ingest
+ *       until the list is first positioned</li>
  *   <li>Edge cases and null conditions are handled throughout for robustness</li>
+ *   <li>{@code get} is not read-only internally: it moves the finger, builds the lookup index
+ *       and records access samples, so concurrent readers must synchronize like writers do</li>
  * </ul>
  *
  * @param <E> the type of elements in this list
  */
-public class SkipList<E> implements java.util.List<E> {
+public class SkipList<E> implements java.util.List<E>, Cloneable {
     /** Main list head node */
     private ListNode head;
 
@@ -41,14 +52,23 @@ public class SkipList<E> implements java.util.List<E> {
     /** Current size of the list */
     private int size = 0;
 
+    /** Number of structural modifications, used by iterators to fail fast */
+    private int modCount = 0;
+
     /** Tracks distance since last fast node for efficient tail operations */
     private int pendingGap = 0;
 
-    /** Counter for triggering rebalancing operations */
-    private int operationsSinceRebalance = 0;
+    /** Decides the skip distance, append promotion and local rebalancing bounds */
+    private final RebalancePolicy policy;
 
     /** Current distance between fast nodes, dynamically adjusted */
-    private int currentSkipDistance = MIN_SKIP;
+    private int currentSkipDistance;
+
+    /** Skip distance the fast layer was last laid out at, in full or by a completed re-lay */
+    private int laidSkip;
+
+    /** Fast node from which an incremental re-lay continues, or null when none is in progress */
+    private FastNode relayCursor;
 
     /** Number of nodes in fast layer (including sentinels) */
     private int fastNodeCount = 0;
@@ -59,14 +79,83 @@ public class SkipList<E> implements java.util.List<E> {
     /** Fast layer tail sentinel node */
     private FastNode fastTail;
 
-    /** Minimum allowed distance between fast nodes */
-    private static final int MIN_SKIP = 25;
+    /** Head sentinel of the top index level, or null when the list runs with a single fast layer */
+    private IndexNode indexHead;
+
+    /** Fenwick tree over the gaps of the fast nodes in {@code fenwickNodes}, or null when not built */
+    private int[] fenwickTree;
+
+    /** Fast nodes in list order, one per Fenwick slot starting at 1; the tail sentinel is left out */
+    private FastNode[] fenwickNodes;
+
+    /** Number of slots in use in the Fenwick tree */
+    private int fenwickCount;
+
+    /** Index of each anchor's target, less its block shift and any pending shift; null when not built */
+    private int[] anchorIndices;
+
+    /** Shift applied to every anchor in a block of {@code 1 << anchorBlockBits} slots */
+    private int[] anchorBlockShifts;
+
+    /** Base-2 logarithm of the number of slots per anchor block, about half that of the slot count */
+    private int anchorBlockBits;
+
+    /** Fast nodes in list order, one anchor slot each starting at 0; the tail sentinel is left out */
+    private FastNode[] anchorNodes;
+
+    /** Number of anchor slots in use */
+    private int anchorCount;
+
+    /** First anchor slot whose stored index is still missing {@code anchorShift} */
+    private int anchorShiftFrom;
+
+    /** Pending shift for the anchors from {@code anchorShiftFrom} on */
+    private int anchorShift;
+
+    /** Reads counted towards the next access sample and cooling pass */
+    private int accessTicks;
+
+    /** Segment that sampled reads marked for a split, carried out by the next insert or remove */
+    private FastNode hotSegment;
+
+    /** True once sampled reads call for a cooling pass, run by the next insert or remove */
+    private boolean coolingDue;
 
-    /** Number of operations before considering rebalance */
-    private static final int REBALANCE_THRESHOLD = 100;
+    /** True while appends only link main list nodes and the fast layer is left unbuilt */
+    private boolean indexDeferred;
 
-    /** Growth rate for skip distance as list size increases */
-    private static final double SKIP_GROWTH_FACTOR = 1.5;
+    /** Index of the last resolved node (the finger), or -1 when no finger is held */
+    private int fingerIndex = -1;
+
+    /** Last resolved node, used as a starting point for nearby operations */
+    private ListNode fingerNode;
+
+    /** Covering fast node of the finger: the last fast node at or before it */
+    private FastNode fingerFast;
+
+    /** Index of the finger's covering fast node target */
+    private int fingerFastIndex = -1;
+
+    /** Minimum size at which index levels are stacked above the fast layer */
+    private static final int HIERARCHY_THRESHOLD = 1 << 16;
+
+    /** Number of nodes on one level spanned by a node on the level above */
+    private static final int INDEX_FANOUT = 16;
+
+    /** Minimum number of fast nodes for which a lookup index (Fenwick tree or anchor arrays) is built */
+    private static final int LOOKUP_MIN_FAST_NODES = 64;
+
+    /** Maximum number of main list nodes an incremental re-lay walks per mutating call */
+    private static final int RELAY_BUDGET = 256;
+
+    /** Samples a segment must collect before it is split for being read often */
+    private static final int HOT_SEGMENT_SAMPLES = 8;
+
+    /** Smallest gap a segment is split at for being read often; its halves keep at least half of it */
+    private static final int HOT_SPLIT_GAP = 8;
+
+    /** Minimum size at which sort uses a parallel array sort */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
 
     /**
      * Node in the main doubly-linked list layer.
@@ -120,6 +209,15 @@ public class SkipList<E> implements java.util.List<E> {
         /** Number of main list nodes between this and previous fast node */
         int gapFromPrev;
 
+        /** Index node standing on this fast node, or null if it carries no tower */
+        IndexNode up;
+
+        /** Slot of this fast node in the Fenwick tree or the anchor arrays, valid while one is built */
+        int slot;
+
+        /** Sampled reads that landed in the segment ending at this node, halved every cooling pass */
+        int heat;
+
         /**
          * Constructs a new fast layer node.
          *
@@ -136,36 +234,143 @@ public class SkipList<E> implements java.util.List<E> {
         }
     }
 
+    /**
+     * Node on one of the index levels stacked above the fast layer.
+     * Each level indexes the one below it the same way the fast layer indexes the main list:
+     * by the gap, in main list positions, from the previous node on the same level.
+     * The nodes standing on one fast node form a tower linked by {@code up} and {@code down};
+     * the fast layer's sentinels carry full-height towers that act as sentinels on every level.
+     */
+    private class IndexNode {
+        /** Fast node at the bottom of this node's tower */
+        FastNode base;
+
+        /** Node one level below in the same tower, or null on the lowest index level */
+        IndexNode down;
+
+        /** Node one level above in the same tower, or null at the top of the tower */
+        IndexNode up;
+
+        /** Previous and next nodes on the same level */
+        IndexNode prev, next;
+
+        /** Number of main list positions between this and the previous node on the level */
+        int gapFromPrev;
+
+        /**
+         * Constructs a new index node.
+         *
+         * @param base        Fast node at the bottom of the tower
+         * @param down        Node one level below, or null on the lowest index level
+         * @param prev        Previous node on the same level
+         * @param gapFromPrev Number of main list positions to the previous node
+         */
+        IndexNode(FastNode base, IndexNode down, IndexNode prev, int gapFromPrev) {
+            this.base = base;
+            this.down = down;
+            this.prev = prev;
+            this.gapFromPrev = gapFromPrev;
+        }
+    }
+
+    /**
+     * Constructs an empty list with the default rebalance policy.
+     */
+    public SkipList() {
+        this(RebalancePolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list whose fast layer is laid out by the given policy.
+     *
+     * @param policy Decides skip distances, append promotion and local rebalancing
+     * @throws NullPointerException if the policy is null
+     */
+    public SkipList(RebalancePolicy policy) {
+        this.policy = java.util.Objects.requireNonNull(policy);
+        this.currentSkipDistance = policy.minSkip();
+        this.laidSkip = currentSkipDistance;
+    }
+
+    /**
+     * Constructs a list containing the elements of the collection, in iteration order.
+     * The nodes are allocated in one sequential pass with fast nodes laid down at the
+     * final skip distance, so no rebalance is needed afterwards.
+     *
+     * @param c Collection whose elements are placed into this list
+     * @throws NullPointerException if the collection is null
+     */
+    public SkipList(java.util.Collection<? extends E> c) {
+        this(c, RebalancePolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs a list containing the elements of the collection, in iteration order,
+     * whose fast layer is laid out by the given policy.
+     *
+     * @param c      Collection whose elements are placed into this list
+     * @param policy Decides skip distances, append promotion and local rebalancing
+     * @throws NullPointerException if the collection or the policy is null
+     */
+    public SkipList(java.util.Collection<? extends E> c, RebalancePolicy policy) {
+        this(policy);
+        Object[] elements = c.toArray();
+        if (elements.length > 0) buildFromEmpty(elements, bulkSkip(elements.length));
+    }
+
+    /**
+     * Constructs a list containing the elements of the array, in order.
+     * The array is read once and not retained.
+     *
+     * @param elements Array whose elements are placed into this list
+     * @throws NullPointerException if the array is null
+     */
+    public SkipList(E[] elements) {
+        this(elements, RebalancePolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs a list containing the elements of the array, in order, whose fast layer
+     * is laid out by the given policy. The array is read once and not retained.
+     *
+     * @param elements Array whose elements are placed into this list
+     * @param policy   Decides skip distances, append promotion and local rebalancing
+     * @throws NullPointerException if the array or the policy is null
+     */
+    public SkipList(E[] elements, RebalancePolicy policy) {
+        this(policy);
+        if (elements.length > 0) buildFromEmpty(elements, bulkSkip(elements.length));
+    }
+
     /**
      * Calculates the optimal skip distance based on current list size.
-     * The distance between fast nodes grows with list size but is bounded by sqrt(n).
-     * This method handles several edge cases:
+     * The distance between fast nodes follows the policy's ramp towards its target
+     * (sqrt(n) by default). This method handles several edge cases:
      * <ul>
-     *   <li>Returns MIN_SKIP for lists of size <= 1</li>
-     *   <li>Prevents integer overflow using long arithmetic</li>
-     *   <li>Ensures returned value is never less than MIN_SKIP</li>
-     *   <li>Handles growth according to SKIP_GROWTH_FACTOR</li>
+     *   <li>Returns the policy's minimum skip for lists of size <= 1</li>
+     *   <li>Returns the minimum skip while index levels are built or due, where they take over</li>
+     *   <li>Ensures returned value is never less than the minimum skip</li>
+     *   <li>Otherwise moves one step along {@link RebalancePolicy#nextSkip}</li>
      * </ul>
      *
      * @return The optimal distance between fast nodes for current list size
      */
     private int getDynamicSkip() {
+        int minSkip = policy.minSkip();
+
         // Handle edge cases
-        if (size <= 1) return MIN_SKIP;
+        if (size <= 1) return minSkip;
 
-        // Prevent integer overflow
-        long potentialSkip = currentSkipDistance;
-        if (size > currentSkipDistance * SKIP_GROWTH_FACTOR) {
-            potentialSkip = Math.min(
-                    (long)(currentSkipDistance * SKIP_GROWTH_FACTOR),
-                    (long)Math.sqrt(size)
-            );
-            // Ensure we don't exceed Integer.MAX_VALUE
-            currentSkipDistance = (int)Math.min(potentialSkip, Integer.MAX_VALUE);
+        // Index levels take over the scaling; the fast layer stays dense
+        if (indexHead != null || size >= HIERARCHY_THRESHOLD) {
+            currentSkipDistance = minSkip;
+            return minSkip;
         }
 
-        // Never return less than MIN_SKIP
-        return Math.max(MIN_SKIP, currentSkipDistance);
+        currentSkipDistance = policy.nextSkip(size, currentSkipDistance);
+
+        // Never return less than the minimum skip
+        return Math.max(minSkip, currentSkipDistance);
     }
 
     /**
@@ -186,6 +391,8 @@ public class SkipList<E> implements java.util.List<E> {
      * </ul>
      */
     private void initializeSentinels() {
+        invalidateLookup();
+
         // Don't initialize if either sentinel already exists
         if (fastHead != null || fastTail != null) {
             // Clean up any partially initialized state
@@ -252,6 +459,21 @@ public class SkipList<E> implements java.util.List<E> {
         }
     }
 
+    /**
+     * Adjusts the gap of a fast node by the given amount.
+     * All gap changes go through here so that {@code pendingGap} always mirrors
+     * the tail sentinel's gap and the lookup index, when built, stays in step.
+     *
+     * @param fast  The fast node whose gap changes
+     * @param delta Amount to add to the gap (may be negative)
+     */
+    private void adjustGap(FastNode fast, int delta) {
+        fast.gapFromPrev += delta;
+        if (fast == fastTail) pendingGap = fast.gapFromPrev;
+        else if (fenwickTree != null) fenwickAdd(fast.slot, delta);
+        else if (anchorIndices != null) shiftAnchors(fast.slot, delta);
+    }
+
     /**
      * Adds a new fast node before the tail sentinel to maintain optimal access structure.
      * This method is used during list growth to maintain proper fast layer density.
@@ -268,6 +490,7 @@ public class SkipList<E> implements java.util.List<E> {
      */
     private void appendFastNodeToLast(ListNode target, int gap) {
         if (fastTail == null || fastTail.prev == null || target == null) return;
+        invalidateLookup();
         FastNode newFast = new FastNode(target, fastTail.prev, fastTail, gap);
         fastTail.prev.next = newFast;
         fastTail.prev = newFast;
@@ -285,6 +508,8 @@ public class SkipList<E> implements java.util.List<E> {
      *   <li>Updates fast layer connectivity</li>
      *   <li>Cleans up references in main list</li>
      *   <li>Maintains accurate fast node count</li>
+     *   <li>Removes the index tower standing on it, merging its gap on every level</li>
+     *   <li>Re-splits index spans that the removed tower leaves overfull</li>
      * </ul>
      *
      * @param toRemove The fast node to remove (ignored if null or sentinel)
@@ -295,10 +520,16 @@ public class SkipList<E> implements java.util.List<E> {
         // Don't remove sentinel nodes
         if (toRemove == fastHead || toRemove == fastTail) return;
 
+        // The tower standing on it goes first, and the lookup slots shift
+        boolean hadTower = toRemove.up != null;
+        FastNode before = toRemove.prev;
+        if (relayCursor == toRemove) relayCursor = before;
+        removeTower(toRemove);
+        invalidateLookup();
+
         // Update gap information
         if (toRemove.prev != null && toRemove.next != null) {
-            // Ensure gap doesn't underflow
-            toRemove.next.gapFromPrev = Math.max(1, toRemove.next.gapFromPrev + toRemove.gapFromPrev);
+            adjustGap(toRemove.next, toRemove.gapFromPrev);
         }
 
         // Update fast layer links
@@ -322,656 +553,3202 @@ public class SkipList<E> implements java.util.List<E> {
         if (fastNodeCount > 2) {  // Don't decrement below sentinel count
             fastNodeCount--;
         }
+
+        // The spans on either side of the removed tower are now one
+        if (hadTower) balanceTowers(before);
     }
 
     /**
-     * Checks if rebalancing is needed and performs it if necessary.
-     * Rebalancing is triggered by:
-     * <ul>
-     *   <li>Reaching REBALANCE_THRESHOLD operations</li>
-     *   <li>Fast layer density becoming suboptimal</li>
-     * </ul>
+     * Records a shift of positions inside the span ending at a fast node, that is,
+     * an element inserted or removed between that fast node and the one before it.
+     * The fast node's gap changes by delta, and so does the gap of the index node
+     * spanning the same position on every level above.
+     *
+     * @param fast  The first fast node at or after the shifted position
+     * @param delta Number of positions inserted (positive) or removed (negative)
+     */
+    private void shiftGap(FastNode fast, int delta) {
+        adjustGap(fast, delta);
+        shiftIndex(fast, delta);
+    }
+
+    /**
+     * Applies a shift of positions inside the span ending at a fast node to the index levels.
+     * On each level the span containing the position ends at the first node at or after
+     * the one found on the level below, so one gap changes per level.
+     *
+     * @param fast  The first fast node at or after the shifted position
+     * @param delta Number of positions inserted (positive) or removed (negative)
+     */
+    private void shiftIndex(FastNode fast, int delta) {
+        if (indexHead == null) return;
+
+        // The tail sentinel always carries a tower, so these walks stop
+        while (fast.up == null) fast = fast.next;
+        for (IndexNode node = fast.up; node != null; ) {
+            node.gapFromPrev += delta;
+            while (node.up == null && node.next != null) node = node.next;
+            node = node.up;
+        }
+    }
+
+    /**
+     * Removes the index tower standing on a fast node, merging each level's gap
+     * into the next node on that level.
+     *
+     * @param fast The fast node whose tower is removed
+     */
+    private void removeTower(FastNode fast) {
+        IndexNode node = fast.up;
+        fast.up = null;
+        if (indexHead == null) return;
+
+        while (node != null) {
+            IndexNode above = node.up;
+            if (node.next != null) node.next.gapFromPrev += node.gapFromPrev;
+            if (node.prev != null) node.prev.next = node.next;
+            if (node.next != null) node.next.prev = node.prev;
+            node.prev = node.next = node.up = node.down = null;
+            node.base = null;
+            node = above;
+        }
+    }
+
+    /**
+     * Restores the local spacing of the segment ending at a fast node whose gap just changed.
+     * A gap above the policy's split gap (twice the skip distance by default) is split by
+     * promoting the segment's middle node; a gap below its merge gap (half the skip distance)
+     * is merged into the next segment, which is split again if that leaves it overfull.
+     * This replaces periodic global rebuilds: each mutation pays at most O(skip) for the walk
+     * to the middle node, plus O(log n) with index levels.
+     *
+     * @param fast The fast node whose gap changed (ignored if null, removed or the head sentinel)
+     */
+    private void balanceSegment(FastNode fast) {
+        if (fast == null || fast == fastHead || fast.target == null) return;
+
+        int skip = getDynamicSkip();
+        int splitGap = policy.splitGap(skip);
+        if (fast.gapFromPrev > splitGap) {
+            splitSegment(fast);
+        } else if (fast.gapFromPrev < policy.mergeGap(skip) && fast != fastTail) {
+            // The tail segment is refilled by appends, so only interior segments merge
+            FastNode next = fast.next;
+            mergeFastNode(fast);
+            if (next.gapFromPrev > splitGap) splitSegment(next);
+        }
+    }
+
+    /**
+     * Splits the segment ending at a fast node in two by placing a new fast node on
+     * its middle node.
      *
-     * This helps maintain optimal performance characteristics by:
+     * @param fast The fast node ending the segment (gap of at least 2)
+     * @return The new fast node ending the left half
+     */
+    private FastNode splitSegment(FastNode fast) {
+        FastNode left = fast.prev;
+        int half = fast.gapFromPrev / 2;
+        ListNode middle = left.target;
+        for (int i = 0; i < half; i++) middle = middle.next;
+        return insertFastNode(left, middle, half);
+    }
+
+    /**
+     * Samples the segment a read landed in, when the policy asks for it. Only lists running
+     * with a single fast layer adapt; index levels already make every read O(log n).
+     * A read only records heat and never changes the fast layer's shape, so open iterators
+     * and spliterators stay valid:
      * <ul>
-     *   <li>Keeping fast layer density proportional to sqrt(n)</li>
-     *   <li>Adjusting skip distances based on list size</li>
-     *   <li>Preventing degradation of access times</li>
+     *   <li>Every {@code accessSampleInterval()}-th read adds one to the heat of the segment holding the finger</li>
+     *   <li>A segment reaching HOT_SEGMENT_SAMPLES with a gap of at least HOT_SPLIT_GAP is marked for a split</li>
+     *   <li>After about two samples per fast node, a cooling pass is marked as due</li>
      * </ul>
+     * The next insert or remove carries them out in {@link #adaptStep()}, and
+     * {@link #rebalance()} does so for every hot segment after a read phase.
      */
-    private void checkAndRebalance() {
-        operationsSinceRebalance++;
-        if (operationsSinceRebalance >= REBALANCE_THRESHOLD ||
-                (fastNodeCount > 2 && fastNodeCount < Math.sqrt(size) / 2)) {
-            rebalanceFastLayer();
-            operationsSinceRebalance = 0;
+    private void sampleAccess() {
+        int interval = policy.accessSampleInterval();
+        if (interval <= 0 || indexHead != null || fingerFast == null || ++accessTicks % interval != 0) return;
+
+        FastNode segment = fingerFast.next;
+        if (segment != null && ++segment.heat >= HOT_SEGMENT_SAMPLES && segment.gapFromPrev >= HOT_SPLIT_GAP) {
+            hotSegment = segment;
+        }
+        if (accessTicks >= 2 * interval * fastNodeCount) {
+            accessTicks = 0;
+            coolingDue = true;
         }
     }
 
     /**
-     * Adds an element to the end of the list with O(1) amortized complexity.
-     * This method maintains optimal performance through:
+     * Carries out what {@link #sampleAccess()} marked, from a mutating call whose change to
+     * {@code modCount} already invalidates iterators:
      * <ul>
-     *   <li>Efficient tail operations using direct tail reference</li>
-     *   <li>Proper fast layer maintenance with gap tracking</li>
-     *   <li>Automatic fast node creation when optimal</li>
-     *   <li>Sentinel initialization for empty list case</li>
+     *   <li>The marked hot segment, if it is still in the layer, is split while the layer is within
+     *       its budget, each half keeping half the heat</li>
+     *   <li>A due cooling pass merges cold segments and halves every heat</li>
      * </ul>
-     *
-     * @param e Element to append to the list
-     * @return true (as specified by Collection.add)
      */
-    @Override
-    public boolean add(E e) {
-        // Create new node and update main list
-        ListNode newNode = new ListNode(e, tail, null);
-        if (tail != null) tail.next = newNode;
-        else head = newNode;
-        tail = newNode;
-        size++;
+    private void adaptStep() {
+        if (hotSegment == null && !coolingDue) return;
+        FastNode segment = hotSegment;
+        hotSegment = null;
+        if (indexHead != null || fastHead == null) {
+            coolingDue = false;
+            return;
+        }
 
-        if (size == 1) {
-            initializeSentinels();
-            pendingGap = 0;  // Reset gap for first element
-        } else {
-            // Update tail sentinel
-            updateTailSentinel();
-            pendingGap++;
+        int skip = getDynamicSkip();
+        if (segment != null && segment.target != null && segment.gapFromPrev >= HOT_SPLIT_GAP
+                && fastNodeCount < accessBudget(skip)) {
+            FastNode half = splitSegment(segment);
+            half.heat = segment.heat / 2;
+            segment.heat -= half.heat;
+        }
+        if (coolingDue) {
+            coolingDue = false;
+            coolSegments(skip);
+        }
+    }
 
-            // Check if we need a new fast node before tail
-            if (pendingGap >= getDynamicSkip()) {
-                // Add new fast node before tail sentinel
-                ListNode beforeTail = tail.prev;
-                FastNode newFast = new FastNode(beforeTail, fastTail.prev, fastTail, pendingGap - 1);
-                fastTail.prev.next = newFast;
-                fastTail.prev = newFast;
-                beforeTail.fastLink = newFast;
-                fastNodeCount++;
+    /**
+     * Returns the number of fast nodes an access-sampling list may use: about as many as
+     * a uniform layout at the given skip distance.
+     *
+     * @param skip The current skip distance
+     * @return The fast node budget, sentinels included
+     */
+    private int accessBudget(int skip) {
+        return size / skip + 2;
+    }
 
-                // Reset gap and update tail sentinel's gap
-                fastTail.gapFromPrev = 1;
-                pendingGap = 1;  // Reset to 1 since we just added a node after the new fast node
+    /**
+     * Merges pairs of adjacent segments that drew no samples since the last pass, as long as the
+     * merged gap stays within the split gap, until an eighth of the budget is free for hot splits.
+     * Every heat is halved on the way, so segments no longer read cool down over a few passes.
+     *
+     * @param skip The current skip distance
+     */
+    private void coolSegments(int skip) {
+        int budget = accessBudget(skip);
+        int target = budget - budget / 8;
+        int splitGap = policy.splitGap(skip);
+        FastNode fast = fastHead.next;
+        while (fast != null && fast != fastTail) {
+            FastNode next = fast.next;
+            if (fastNodeCount > target && fast.heat == 0 && next.heat == 0
+                    && fast.gapFromPrev + next.gapFromPrev <= splitGap) {
+                mergeFastNode(fast);
             } else {
-                // Just update tail sentinel's gap
-                fastTail.gapFromPrev = pendingGap;
+                fast.heat >>= 1;
             }
+            fast = next;
         }
+        fastTail.heat >>= 1;
+    }
 
-        return true;
+    /**
+     * Places a new fast node on an interior main list node inside the segment following
+     * a fast node, carving its gap out of the next fast node's gap. A finger past the new
+     * node moves onto it, and the index spans take it in.
+     *
+     * @param left The fast node starting the segment
+     * @param node The main list node to promote, gap positions after left's target
+     * @param gap  Number of positions from left's target to the node
+     * @return The new fast node
+     */
+    private FastNode insertFastNode(FastNode left, ListNode node, int gap) {
+        FastNode right = left.next;
+        invalidateLookup();
+        FastNode promoted = new FastNode(node, left, right, gap);
+        left.next = promoted;
+        right.prev = promoted;
+        node.fastLink = promoted;
+        adjustGap(right, -gap);
+        fastNodeCount++;
+
+        if (fingerFast == left && fingerIndex - fingerFastIndex >= gap) {
+            fingerFast = promoted;
+            fingerFastIndex += gap;
+        }
+        balanceTowers(promoted);
+        return promoted;
     }
 
     /**
-     * Inserts an element at the specified position with O(sqrt(n)) average complexity.
-     * This method optimizes insertion through:
-     * <ul>
-     *   <li>Fast layer traversal for positioning</li>
-     *   <li>Special handling for head/tail insertions</li>
-     *   <li>Proper gap maintenance in fast layer</li>
-     *   <li>Automatic rebalancing when needed</li>
-     * </ul>
+     * Removes an interior fast node, merging its segment into the next one.
+     * A finger covered by it falls back to the previous fast node.
      *
-     * @param index Index at which to insert the element
-     * @param element Element to insert
-     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     * @param fast The interior fast node to remove
      */
-    @Override
-    public void add(int index, E element) {
-        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+    private void mergeFastNode(FastNode fast) {
+        if (fingerFast == fast) {
+            fingerFastIndex -= fast.gapFromPrev;
+            fingerFast = fast.prev;
+        }
+        removeFastNode(fast);
+    }
 
-        // Handle append to end - reuse optimized add()
-        if (index == size) {
-            add(element);
-            return;
+    /**
+     * Re-lays the fast layer incrementally once the policy finds the skip distance has drifted
+     * too far from the spacing it was last laid at (by default to half or twice it), as happens
+     * when a list grows or shrinks a lot or crosses HIERARCHY_THRESHOLD. Each mutating call
+     * moves a cursor along the fast layer for at most RELAY_BUDGET main list nodes:
+     * <ul>
+     *   <li>A segment above the split gap gets a fast node one skip in, and the rest is looked at again</li>
+     *   <li>An interior segment under the merge gap is merged into the next one</li>
+     *   <li>Any other segment is passed over</li>
+     * </ul>
+     * Segments ahead of the cursor keep their old gaps, which stay valid, until it reaches them,
+     * so no single call pays for the whole list.
+     */
+    private void relayStep() {
+        if (fastHead == null) return;
+        int skip = getDynamicSkip();
+        if (relayCursor == null) {
+            if (!policy.shouldRelay(laidSkip, skip)) return;
+            relayCursor = fastHead;
+            laidSkip = skip;
         }
 
-        // Handle insert at head
-        if (index == 0) {
-            ListNode newNode = new ListNode(element, null, head);
-            if (head != null) {
-                head.prev = newNode;
+        int splitGap = policy.splitGap(skip);
+        int mergeGap = policy.mergeGap(skip);
+        int budget = RELAY_BUDGET;
+        while (budget > 0) {
+            FastNode next = relayCursor.next;
+            if (next == null) {
+                relayCursor = null;
+                return;
+            }
+            if (next.gapFromPrev > splitGap) {
+                ListNode node = relayCursor.target;
+                for (int i = 0; i < skip; i++) node = node.next;
+                relayCursor = insertFastNode(relayCursor, node, skip);
+                budget -= skip;
+            } else if (next != fastTail && next.gapFromPrev < mergeGap) {
+                mergeFastNode(next);
+                budget--;
             } else {
-                tail = newNode; // Empty list case
+                relayCursor = next;
+                budget--;
             }
-            head = newNode;
-            size++;
+        }
+    }
 
-            if (size == 1) {
-                initializeSentinels();
-            } else if (fastHead != null) {  // Check if fast layer exists
-                // Update fast head sentinel and its next node's gap
-                fastHead.target = head;
-                head.fastLink = fastHead;
-                if (fastHead.next != null) {
-                    fastHead.next.gapFromPrev = Math.max(1, fastHead.next.gapFromPrev + 1);
+    /**
+     * Keeps the index spans holding a fast node within twice INDEX_FANOUT nodes after
+     * fast nodes were added to or removed from its span. On each level an overfull span
+     * gets a new node above every INDEX_FANOUT-th member, and the span holding its left
+     * boundary is checked on the level above; an overfull top level gets a new level
+     * stacked on it. A single change therefore costs O(INDEX_FANOUT) per level.
+     *
+     * @param fast A fast node in the span that changed
+     */
+    private void balanceTowers(FastNode fast) {
+        if (indexHead == null || fast == null || fast.target == null) return;
+
+        // Fast layer: the span runs from the tower at or before the node to the next tower
+        FastNode start = fast;
+        while (start.up == null) start = start.prev;
+        int count = 1;
+        for (FastNode end = start.next; end.up == null; end = end.next) count++;
+        if (count > 2 * INDEX_FANOUT) {
+            IndexNode left = start.up;
+            FastNode member = start;
+            int gap = 0;
+            for (int i = 1; i <= count - INDEX_FANOUT; i++) {
+                member = member.next;
+                gap += member.gapFromPrev;
+                if (i % INDEX_FANOUT == 0) {
+                    left = insertIndexNode(left, member, null, gap);
+                    gap = 0;
                 }
             }
-            return;
         }
 
-        // Find the fast node that will need its gap updated
-        FastNode fast = fastHead;
-        FastNode updateFast = null;
-        int traversed = 0;
+        // Index levels: the same check on the span holding the left boundary, one level up
+        IndexNode node = start.up;
+        while (true) {
+            IndexNode first = node;
+            while (first.up == null && first.prev != null) first = first.prev;
+            if (first.up == null) {
+                // Top level: stack a new level once it is too long to scan
+                IndexNode last = first;
+                int total = 0;
+                count = 1;
+                while (last.next != null) {
+                    last = last.next;
+                    total += last.gapFromPrev;
+                    count++;
+                }
+                if (count <= 2 * INDEX_FANOUT) return;
+                IndexNode top = new IndexNode(fastHead, first, null, 0);
+                top.next = new IndexNode(fastTail, last, top, total);
+                first.up = top;
+                last.up = top.next;
+                indexHead = top;
+            }
 
-        while (fast != null && fast.next != null) {
-            if (traversed + fast.next.gapFromPrev > index) {
-                updateFast = fast.next;  // This is the fast node whose gap needs updating
-                break;
+            count = 1;
+            for (IndexNode end = first.next; end.up == null; end = end.next) count++;
+            if (count > 2 * INDEX_FANOUT) {
+                IndexNode left = first.up;
+                IndexNode member = first;
+                int gap = 0;
+                for (int i = 1; i <= count - INDEX_FANOUT; i++) {
+                    member = member.next;
+                    gap += member.gapFromPrev;
+                    if (i % INDEX_FANOUT == 0) {
+                        left = insertIndexNode(left, member.base, member, gap);
+                        gap = 0;
+                    }
+                }
             }
-            traversed += fast.next.gapFromPrev;
-            fast = fast.next;
+            node = first.up;
         }
+    }
 
-        // Handle internal insertions
-        ListNode curr = getNode(index);
-        if (curr == null) throw new IllegalStateException("Target node not found at index: " + index);
-
-        ListNode newNode = new ListNode(element, curr.prev, curr);
-        if (curr.prev != null) curr.prev.next = newNode;
-        curr.prev = newNode;
-        size++;
-
-        // Update the gap for the saved fast node
-        if (updateFast != null) {
-            updateFast.gapFromPrev = Math.max(1, updateFast.gapFromPrev + 1);
+    /**
+     * Gives a fast node just appended before the tail sentinel a tower once the last span
+     * of the level below holds INDEX_FANOUT nodes, repeating the check one level up each
+     * time a node is added. Appends therefore keep every level at the same fanout.
+     * The top level is scanned linearly, so once it grows past twice the fanout a new
+     * level is stacked on it and split into spans by {@link #balanceTowers}, in
+     * O(INDEX_FANOUT) per level; that happens about once per 16-fold growth of the list.
+     *
+     * @param fast The fast node just appended before the tail sentinel
+     */
+    private void promoteAppended(FastNode fast) {
+        if (indexHead == null) return;
+
+        int count = 1;
+        int gap = fast.gapFromPrev;
+        FastNode back = fast.prev;
+        while (back.up == null) {
+            gap += back.gapFromPrev;
+            back = back.prev;
+            count++;
         }
-
-        // Only rebalance if we're not at the edges and meet the criteria
-        if (index > 1 && index < size - 1) {
-            if ((index + 1) % getDynamicSkip() == 0) {
-                checkAndRebalance();
-            } else if (fastNodeCount > 0 && fastNodeCount < Math.sqrt(size) / 2) {
-                // Additional check for fast layer density
-                checkAndRebalance();
+        if (count < INDEX_FANOUT) return;
+        IndexNode node = insertIndexNode(back.up, fast, null, gap);
+
+        // Repeat on each level that has another one above it
+        while (node.next.up != null) {
+            count = 1;
+            gap = node.gapFromPrev;
+            IndexNode left = node.prev;
+            while (left.up == null) {
+                gap += left.gapFromPrev;
+                left = left.prev;
+                count++;
             }
+            if (count < INDEX_FANOUT) return;
+            node = insertIndexNode(left.up, fast, node, gap);
         }
+
+        count = 0;
+        for (IndexNode top = indexHead; top != null; top = top.next) count++;
+        if (count > 2 * INDEX_FANOUT) balanceTowers(fast);
     }
 
     /**
-     * Removes the element at the specified position with O(sqrt(n)) average complexity.
-     * This method optimizes removal through:
-     * <ul>
-     *   <li>Fast layer traversal for positioning</li>
-     *   <li>Special handling for head/tail removals</li>
-     *   <li>Proper fast layer maintenance</li>
-     *   <li>Automatic rebalancing for internal nodes</li>
-     * </ul>
+     * Inserts an index node directly after another node on the same level and
+     * carves its gap out of the following node's gap.
      *
-     * @param index Index of element to remove
-     * @return The removed element
-     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     * @param left The node after which to insert
+     * @param base Fast node at the bottom of the new node's tower
+     * @param down Node one level below, or null on the lowest index level
+     * @param gap  Number of main list positions from left to the new node
+     * @return The inserted node
      */
-    @Override
-    public E remove(int index) {
-        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+    private IndexNode insertIndexNode(IndexNode left, FastNode base, IndexNode down, int gap) {
+        IndexNode right = left.next;
+        IndexNode node = new IndexNode(base, down, left, gap);
+        node.next = right;
+        left.next = node;
+        right.prev = node;
+        right.gapFromPrev -= gap;
+        if (down != null) down.up = node;
+        else base.up = node;
+        return node;
+    }
 
-        // Handle head removal
-        if (index == 0) {
-            ListNode oldHead = head;
-            E data = oldHead.data;
+    /**
+     * Builds the index levels from scratch over the current fast layer.
+     * The lowest index level stands on every INDEX_FANOUT-th fast node, each further
+     * level on every INDEX_FANOUT-th node of the level below, until the top level is
+     * short enough to scan. Both fast layer sentinels carry full-height towers.
+     */
+    private void buildIndexLevels() {
+        dropIndex();
+        if (fastHead == null || fastTail == null) return;
+
+        IndexNode levelHead = null;
+        IndexNode last = null;
+        int count = 0;
+        int gap = 0;
+        int position = 0;
+        for (FastNode fast = fastHead; fast != null; fast = fast.next, position++) {
+            if (fast != fastHead) gap += fast.gapFromPrev;
+            fast.up = null;
+            if (fast == fastHead || fast == fastTail || position % INDEX_FANOUT == 0) {
+                IndexNode node = new IndexNode(fast, null, last, gap);
+                if (last != null) last.next = node;
+                else levelHead = node;
+                fast.up = node;
+                last = node;
+                gap = 0;
+                count++;
+            }
+        }
 
-            head = oldHead.next;
-            if (head != null) {
-                head.prev = null;
+        while (count > INDEX_FANOUT) {
+            IndexNode below = levelHead;
+            levelHead = last = null;
+            count = gap = position = 0;
+            for (; below != null; below = below.next, position++) {
+                if (position > 0) gap += below.gapFromPrev;
+                if (position == 0 || below.next == null || position % INDEX_FANOUT == 0) {
+                    IndexNode node = new IndexNode(below.base, below, last, gap);
+                    if (last != null) last.next = node;
+                    else levelHead = node;
+                    below.up = node;
+                    last = node;
+                    gap = 0;
+                    count++;
+                }
+            }
+        }
+        indexHead = levelHead;
+    }
+
+    /**
+     * Discards the index levels, leaving the single fast layer.
+     */
+    private void dropIndex() {
+        if (indexHead == null) return;
+        for (FastNode fast = fastHead; fast != null; fast = fast.next) fast.up = null;
+        indexHead = null;
+    }
+
+    /**
+     * Builds the index levels when the list is at least HIERARCHY_THRESHOLD elements
+     * long and drops them otherwise. Called after the fast layer is laid.
+     */
+    private void updateIndexMode() {
+        if (size >= HIERARCHY_THRESHOLD) buildIndexLevels();
+        else dropIndex();
+    }
+
+    /**
+     * Switches a list that has grown past HIERARCHY_THRESHOLD without a rebuild
+     * (for example through appends alone) to index levels before it is searched.
+     * The levels are built over the fast layer as it is, in O(fast nodes); the skip
+     * distance then drops to the minimum and incremental re-lays densify the layer.
+     */
+    private void ensureIndex() {
+        if (indexHead == null && size >= HIERARCHY_THRESHOLD && fastHead != null) {
+            buildIndexLevels();
+        }
+    }
+
+    /**
+     * Switches a list that has shrunk below half of HIERARCHY_THRESHOLD through removals
+     * back to the single fast layer, the reverse of {@link #ensureIndex()}. The levels are
+     * dropped in O(fast nodes); the skip distance then ramps up from the minimum and
+     * incremental re-lays thin the layer. Dropping at half the threshold rather than at
+     * the threshold keeps a list that hovers around it from rebuilding the levels over
+     * and over.
+     */
+    private void shedIndex() {
+        if (indexHead != null && size < HIERARCHY_THRESHOLD / 2) {
+            dropIndex();
+        }
+    }
+
+    /**
+     * Builds the lookup index the policy asks for over the fast layer if it is missing and
+     * worthwhile: the Fenwick tree by default, or the anchor arrays when
+     * {@link RebalancePolicy#anchorLookup()} is set.
+     *
+     * @return true if a lookup index is available
+     */
+    private boolean ensureLookup() {
+        return policy.anchorLookup() ? ensureAnchors() : ensureFenwick();
+    }
+
+    /**
+     * Drops the lookup index; it is rebuilt on demand.
+     */
+    private void invalidateLookup() {
+        fenwickTree = null;
+        fenwickNodes = null;
+        fenwickCount = 0;
+        anchorIndices = null;
+        anchorBlockShifts = null;
+        anchorNodes = null;
+        anchorCount = 0;
+    }
+
+    /**
+     * Builds the Fenwick tree over the fast nodes' gaps if it is missing and worthwhile:
+     * the list must run with a single fast layer of at least LOOKUP_MIN_FAST_NODES nodes.
+     * The tree is kept in fast layer order; every change to a gap goes through
+     * {@link #adjustGap}, which updates it in O(log F). Adding or removing a fast node
+     * shifts the slots, so those paths drop the tree and it is rebuilt in O(F) on the
+     * next positioning that wants it.
+     *
+     * @return true if the tree is available
+     */
+    private boolean ensureFenwick() {
+        if (fenwickTree != null) return true;
+        if (indexHead != null || fastHead == null || fastNodeCount < LOOKUP_MIN_FAST_NODES) {
+            return false;
+        }
+
+        int count = 0;
+        for (FastNode fast = fastHead; fast != null && fast != fastTail; fast = fast.next) count++;
+
+        @SuppressWarnings("unchecked")
+        FastNode[] nodes = (FastNode[]) new SkipList<?>.FastNode[count + 1];
+        int[] tree = new int[count + 1];
+        int slot = 0;
+        for (FastNode fast = fastHead; fast != null && fast != fastTail; fast = fast.next) {
+            slot++;
+            fast.slot = slot;
+            nodes[slot] = fast;
+            tree[slot] = (fast == fastHead) ? 0 : fast.gapFromPrev;
+        }
+
+        // Linear-time construction: push each partial sum to its parent
+        for (int i = 1; i <= count; i++) {
+            int parent = i + (i & -i);
+            if (parent <= count) tree[parent] += tree[i];
+        }
+
+        fenwickNodes = nodes;
+        fenwickTree = tree;
+        fenwickCount = count;
+        return true;
+    }
+
+    /**
+     * Adds delta to the gap stored in a Fenwick slot.
+     *
+     * @param slot  The slot whose gap changes
+     * @param delta Amount to add
+     */
+    private void fenwickAdd(int slot, int delta) {
+        for (int i = slot; i <= fenwickCount; i += i & -i) fenwickTree[i] += delta;
+    }
+
+    /**
+     * Returns the list index of the target of the fast node in a Fenwick slot,
+     * which is the prefix sum of the gaps up to that slot.
+     *
+     * @param slot The slot to look up
+     * @return Index of the slot's fast node target
+     */
+    private int fenwickIndexOf(int slot) {
+        int index = 0;
+        for (int i = slot; i > 0; i -= i & -i) index += fenwickTree[i];
+        return index;
+    }
+
+    /**
+     * Finds the Fenwick slot of the last fast node at or before an index by descending
+     * the tree's implicit binary structure, in O(log F).
+     *
+     * @param index The index to cover
+     * @return The slot of the covering fast node (slot 1 is the head sentinel)
+     */
+    private int fenwickSearch(int index) {
+        int slot = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(fenwickCount); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next <= fenwickCount && fenwickTree[next] <= remaining) {
+                slot = next;
+                remaining -= fenwickTree[next];
+            }
+        }
+        return Math.max(1, slot);
+    }
+
+    /**
+     * Builds the anchor arrays over the fast layer if they are missing and worthwhile:
+     * the list must run with a single fast layer of at least LOOKUP_MIN_FAST_NODES nodes.
+     * The arrays hold every fast node but the tail sentinel in list order, together with
+     * the absolute index of its target, so a lookup binary-searches a contiguous
+     * {@code int[]} instead of chasing {@code FastNode.next}. A gap change shifts the
+     * indices of all anchors after it; rather than rewriting them, one pending shift is
+     * kept for a suffix of the slots and only the slots between its old and new start
+     * take a delta (see {@link #shiftAnchors}). The slots are grouped into blocks of about
+     * sqrt(F) with one shift each, so that delta costs O(sqrt(F)) writes however far
+     * apart consecutive edits are. Adding or removing a fast node moves the
+     * slots, so those paths drop the arrays and they are rebuilt in O(F) on the next
+     * positioning that wants them.
+     *
+     * @return true if the anchors are available
+     */
+    private boolean ensureAnchors() {
+        if (anchorIndices != null) return true;
+        if (indexHead != null || fastHead == null || fastNodeCount < LOOKUP_MIN_FAST_NODES) {
+            return false;
+        }
+
+        int count = 0;
+        for (FastNode fast = fastHead; fast != null && fast != fastTail; fast = fast.next) count++;
+
+        @SuppressWarnings("unchecked")
+        FastNode[] nodes = (FastNode[]) new SkipList<?>.FastNode[count];
+        int[] indices = new int[count];
+        int slot = 0;
+        int index = 0;
+        for (FastNode fast = fastHead; fast != null && fast != fastTail; fast = fast.next) {
+            if (fast != fastHead) index += fast.gapFromPrev;
+            fast.slot = slot;
+            nodes[slot] = fast;
+            indices[slot] = index;
+            slot++;
+        }
+
+        anchorNodes = nodes;
+        anchorIndices = indices;
+        anchorBlockBits = (32 - Integer.numberOfLeadingZeros(count)) / 2;
+        anchorBlockShifts = new int[(count >>> anchorBlockBits) + 1];
+        anchorCount = count;
+        anchorShiftFrom = count;
+        anchorShift = 0;
+        return true;
+    }
+
+    /**
+     * Shifts the indices of the anchors from a slot on. The pending shift covers a suffix
+     * of the slots, so its start is moved to the changed slot and only the slots in between
+     * are written: with the change before the suffix they take the new delta, with it inside
+     * they take the old pending shift. Clustered edits therefore touch few slots.
+     *
+     * @param slot  The first slot whose index changes
+     * @param delta Amount to add
+     */
+    private void shiftAnchors(int slot, int delta) {
+        if (slot < anchorShiftFrom) {
+            addToAnchors(slot, anchorShiftFrom, delta);
+        } else {
+            addToAnchors(anchorShiftFrom, slot, anchorShift);
+            anchorShiftFrom = slot;
+        }
+        anchorShift += delta;
+    }
+
+    /**
+     * Adds a delta to the indices of the anchors in a range of slots. Whole blocks inside
+     * the range take it in their block shift and only the partial blocks at either end
+     * are written slot by slot, so a range costs at most two blocks plus one write per block.
+     *
+     * @param from  The first slot to shift
+     * @param to    The slot after the last one to shift
+     * @param delta Amount to add
+     */
+    private void addToAnchors(int from, int to, int delta) {
+        if (from >= to || delta == 0) return;
+        int[] indices = anchorIndices;
+        int bits = anchorBlockBits;
+        int firstBlock = from >>> bits;
+        int lastBlock = to >>> bits;
+        if (firstBlock == lastBlock) {
+            for (int i = from; i < to; i++) indices[i] += delta;
+            return;
+        }
+        for (int i = from, end = (firstBlock + 1) << bits; i < end; i++) indices[i] += delta;
+        for (int block = firstBlock + 1; block < lastBlock; block++) anchorBlockShifts[block] += delta;
+        for (int i = lastBlock << bits; i < to; i++) indices[i] += delta;
+    }
+
+    /**
+     * Returns the list index of the target of the fast node in an anchor slot.
+     *
+     * @param slot The slot to look up
+     * @return Index of the slot's fast node target
+     */
+    private int anchorIndexOf(int slot) {
+        int index = anchorIndices[slot] + anchorBlockShifts[slot >>> anchorBlockBits];
+        return slot >= anchorShiftFrom ? index + anchorShift : index;
+    }
+
+    /**
+     * Finds the anchor slot of the last fast node at or before an index by binary search, in O(log F).
+     *
+     * @param index The index to cover
+     * @return The slot of the covering fast node (slot 0 is the head sentinel)
+     */
+    private int anchorSearch(int index) {
+        int low = 0;
+        int high = anchorCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (anchorIndexOf(mid) <= index) low = mid;
+            else high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Adds an element to the end of the list with O(1) amortized complexity.
+     * This method maintains optimal performance through:
+     * <ul>
+     *   <li>Efficient tail operations using direct tail reference</li>
+     *   <li>Proper fast layer maintenance with gap tracking</li>
+     *   <li>Automatic fast node creation when optimal</li>
+     *   <li>Sentinel initialization for empty list case</li>
+     * </ul>
+     *
+     * @param e Element to append to the list
+     * @return true (as specified by Collection.add)
+     */
+    @Override
+    public boolean add(E e) {
+        // Create new node and update main list
+        ListNode newNode = new ListNode(e, tail, null);
+        if (tail != null) tail.next = newNode;
+        else head = newNode;
+        tail = newNode;
+        size++;
+        modCount++;
+
+        // Deferred: nothing but the main list is kept until the list is first positioned
+        if (indexDeferred) return true;
+
+        if (size == 1) {
+            initializeSentinels();
+            pendingGap = 0;  // Reset gap for first element
+        } else {
+            // A finger on the old tail loses its covering sentinel
+            if (fingerFast == fastTail) clearFinger();
+
+            // The old tail is now an interior node unless it is also the head
+            ListNode oldTail = newNode.prev;
+            oldTail.fastLink = (oldTail == head) ? fastHead : null;
+
+            // Update tail sentinel
+            updateTailSentinel();
+            pendingGap++;
+
+            // Check if we need a new fast node before tail
+            if (policy.promoteOnAppend(pendingGap, getDynamicSkip())) {
+                // Add new fast node before tail sentinel
+                ListNode beforeTail = tail.prev;
+                invalidateLookup();
+                FastNode newFast = new FastNode(beforeTail, fastTail.prev, fastTail, pendingGap - 1);
+                fastTail.prev.next = newFast;
+                fastTail.prev = newFast;
+                beforeTail.fastLink = newFast;
+                fastNodeCount++;
+
+                // Reset gap and update tail sentinel's gap
+                fastTail.gapFromPrev = 1;
+                pendingGap = 1;  // Reset to 1 since we just added a node after the new fast node
+                shiftIndex(fastTail, 1);
+                promoteAppended(newFast);
             } else {
-                tail = null; // List is now empty
+                // Just update tail sentinel's gap
+                fastTail.gapFromPrev = pendingGap;
+                shiftIndex(fastTail, 1);
             }
+            adaptStep();
+            relayStep();
+        }
 
-            size--;
-            if (size == 0) {
-                // List is now empty
-                fastHead = fastTail = null;
-                fastNodeCount = 0;
-                pendingGap = 0;
-                currentSkipDistance = MIN_SKIP;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the specified position with O(sqrt(n)) average complexity.
+     * This method optimizes insertion through:
+     * <ul>
+     *   <li>Fast layer traversal for positioning</li>
+     *   <li>Special handling for head/tail insertions</li>
+     *   <li>Proper gap maintenance in fast layer</li>
+     *   <li>Splitting the touched segment locally when it grows too long</li>
+     * </ul>
+     *
+     * @param index Index at which to insert the element
+     * @param element Element to insert
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        // Handle append to end - reuse optimized add()
+        if (index == size) {
+            add(element);
+            return;
+        }
+        buildIndex();
+
+        // Handle insert at head
+        if (index == 0) {
+            ListNode oldHead = head;
+            ListNode newNode = new ListNode(element, null, head);
+            if (head != null) {
+                head.prev = newNode;
             } else {
-                // Update fast head sentinel and directly update gap
+                tail = newNode; // Empty list case
+            }
+            head = newNode;
+            size++;
+            modCount++;
+
+            if (size == 1) {
+                initializeSentinels();
+            } else if (fastHead != null) {  // Check if fast layer exists
+                // The old head is now either the tail or a plain interior node
+                oldHead.fastLink = (oldHead == tail) ? fastTail : null;
+
+                // Update fast head sentinel and its next node's gap
                 fastHead.target = head;
                 head.fastLink = fastHead;
                 if (fastHead.next != null) {
-                    fastHead.next.gapFromPrev = Math.max(1, fastHead.next.gapFromPrev - 1);
+                    shiftGap(fastHead.next, 1);
+                }
+                shiftFinger(0, 1);
+                balanceSegment(fastHead.next);
+                adaptStep();
+                relayStep();
+            }
+            return;
+        }
+
+        // Handle internal insertions: resolve the node and its covering fast node in one pass
+        ListNode curr = positionAt(index);
+        if (curr == null) throw new IllegalStateException("Target node not found at index: " + index);
+
+        // The first fast node at or after the insertion point is the one that shifts
+        FastNode covering = fingerNode == curr ? fingerFast : null;
+        FastNode updateFast = covering == null ? null
+                : covering.target == curr ? covering : covering.next;
+
+        ListNode newNode = new ListNode(element, curr.prev, curr);
+        if (curr.prev != null) curr.prev.next = newNode;
+        curr.prev = newNode;
+        size++;
+        modCount++;
+
+        // Update the gap for the saved fast node
+        if (updateFast != null) {
+            shiftGap(updateFast, 1);
+        }
+        shiftFinger(index, 1);
+
+        // A randomized policy may promote the new node; the finger's fast node bounds it on the left
+        if (fingerNode == curr && policy.promoteOnInsert(getDynamicSkip())) {
+            boolean onCurr = fingerFast.target == curr;
+            FastNode left = onCurr ? fingerFast.prev : fingerFast;
+            int leftIndex = onCurr ? fingerFastIndex - fingerFast.gapFromPrev : fingerFastIndex;
+            insertFastNode(left, newNode, index - leftIndex);
+        }
+
+        // Split the segment locally if the insert made it too long
+        balanceSegment(updateFast);
+        adaptStep();
+        relayStep();
+    }
+
+    /**
+     * Appends all elements of the collection in one splice.
+     *
+     * @param c Collection whose elements are appended
+     * @return true if the list changed
+     * @see #addAll(int, java.util.Collection)
+     */
+    @Override
+    public boolean addAll(java.util.Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Inserts all elements of the collection at the specified position in one splice.
+     * This method avoids per-element insertion by:
+     * <ul>
+     *   <li>Building the elements into a detached chain with its own fast nodes</li>
+     *   <li>Positioning once to find the insertion point and the fast nodes around it</li>
+     *   <li>Linking the chain and its fast nodes in, adjusting one neighbouring gap</li>
+     *   <li>Balancing only the segments and index spans at the splice</li>
+     * </ul>
+     *
+     * Inserting k elements costs O(k + sqrt(n)) instead of O(k * sqrt(n)).
+     *
+     * @param index Index at which to insert the first element
+     * @param c Collection whose elements are inserted
+     * @return true if the list changed
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public boolean addAll(int index, java.util.Collection<? extends E> c) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        Object[] elements = c.toArray();
+        int count = elements.length;
+        if (count == 0) return false;
+
+        if (indexDeferred && index == size) {
+            // Deferred appends only link nodes, like add(E)
+            for (Object element : elements) {
+                @SuppressWarnings("unchecked")
+                E e = (E) element;
+                add(e);
+            }
+            return true;
+        }
+        buildIndex();
+
+        int skip = bulkSkip(size + count);
+
+        if (size == 0) {
+            buildFromEmpty(elements, skip);
+        } else if (index == size) {
+            // Append after the tail; the tail sentinel moves to the end of the chain
+            FastNode left = fastTail.prev;
+            int leftIndex = size - 1 - fastTail.gapFromPrev;
+            Chain chain = new Chain(elements, skip, Math.max(0, skip - (index - leftIndex)), count - 2);
+
+            ListNode oldTail = tail;
+            oldTail.next = chain.first;
+            chain.first.prev = oldTail;
+            oldTail.fastLink = (oldTail == head) ? fastHead : null;
+            tail = chain.last;
+            updateTailSentinel();
+
+            spliceFastNodes(chain, left, leftIndex, fastTail, size - 1 + count, index);
+            shiftIndex(fastTail, count);
+            size += count;
+            balanceSplice(left, fastTail);
+        } else if (index == 0) {
+            // Prepend before the head; the head sentinel moves to the start of the chain
+            FastNode right = fastHead.next;
+            Chain chain = new Chain(elements, skip, skip, count - 1);
+
+            ListNode oldHead = head;
+            chain.last.next = oldHead;
+            oldHead.prev = chain.last;
+            oldHead.fastLink = (oldHead == tail) ? fastTail : null;
+            head = chain.first;
+            fastHead.target = head;
+            head.fastLink = fastHead;
+
+            spliceFastNodes(chain, fastHead, 0, right, right.gapFromPrev + count, 0);
+            shiftIndex(right, count);
+            size += count;
+            balanceSplice(fastHead, right);
+        } else {
+            // Position once: the node at index and the fast nodes on either side of it
+            ListNode successor = getNode(index);
+            if (successor == null) throw new IllegalStateException("Target node not found at index: " + index);
+
+            FastNode left;
+            int leftIndex;
+            if (fingerNode == successor) {
+                left = fingerFast;
+                leftIndex = fingerFastIndex;
+                if (leftIndex == index) {
+                    leftIndex -= left.gapFromPrev;
+                    left = left.prev;
+                }
+            } else {
+                // Fallback: walk the fast layer from its head
+                left = fastHead;
+                leftIndex = 0;
+                while (left.next != null && leftIndex + left.next.gapFromPrev < index) {
+                    leftIndex += left.next.gapFromPrev;
+                    left = left.next;
+                }
+            }
+            FastNode right = left.next;
+            Chain chain = new Chain(elements, skip, Math.max(0, skip - (index - leftIndex)), count - 1);
+
+            ListNode predecessor = successor.prev;
+            predecessor.next = chain.first;
+            chain.first.prev = predecessor;
+            chain.last.next = successor;
+            successor.prev = chain.last;
+
+            spliceFastNodes(chain, left, leftIndex, right, leftIndex + right.gapFromPrev + count, index);
+            shiftIndex(right, count);
+            size += count;
+            balanceSplice(left, right);
+        }
+
+        modCount++;
+        clearFinger();
+        return true;
+    }
+
+    /**
+     * Builds the whole list from an array while it is empty, laying fast nodes at
+     * the given spacing in the same pass that allocates the nodes.
+     * Offset 0 is covered by fastHead and the last node by fastTail.
+     *
+     * @param elements The elements to store, in order (at least one)
+     * @param skip     Distance between fast nodes
+     */
+    private void buildFromEmpty(Object[] elements, int skip) {
+        Chain chain = new Chain(elements, skip, skip, elements.length - 2);
+        head = chain.first;
+        tail = chain.last;
+        size = elements.length;
+        initializeSentinels();
+        spliceFastNodes(chain, fastHead, 0, fastTail, size - 1, 0);
+        laidSkip = skip;
+        updateIndexMode();
+    }
+
+    /**
+     * Raises the skip distance straight to the value the dynamic ramp converges to for
+     * the given size, so bulk operations lay fast nodes at their final spacing.
+     * Sizes that run with index levels keep the fast layer at the policy's minimum skip.
+     *
+     * @param newSize The list size after the bulk operation
+     * @return The skip distance to use
+     */
+    private int bulkSkip(int newSize) {
+        int minSkip = policy.minSkip();
+        if (newSize >= HIERARCHY_THRESHOLD) {
+            currentSkipDistance = minSkip;
+            return minSkip;
+        }
+        currentSkipDistance = Math.max(currentSkipDistance, policy.targetSkip(newSize));
+        return Math.max(minSkip, currentSkipDistance);
+    }
+
+    /**
+     * A detached run of main list nodes with its own fast nodes, built ahead of a splice.
+     * Fast node gaps inside the chain are final; the first fast node's gap is set when
+     * the chain is spliced in.
+     */
+    private class Chain {
+        /** First and last nodes of the chain */
+        ListNode first, last;
+
+        /** First and last fast nodes of the chain, or null if it has none */
+        FastNode firstFast, lastFast;
+
+        /** Chain offsets of the first and last fast nodes */
+        int firstFastOffset, lastFastOffset;
+
+        /** Number of fast nodes in the chain */
+        int fastCount;
+
+        /**
+         * Builds a chain holding the given elements in order, placing fast nodes
+         * every {@code skip} nodes from {@code firstOffset} up to {@code lastOffset}.
+         *
+         * @param elements    The elements to store
+         * @param skip        Distance between fast nodes
+         * @param firstOffset Chain offset of the first fast node
+         * @param lastOffset  Last chain offset allowed to hold a fast node
+         */
+        @SuppressWarnings("unchecked")
+        Chain(Object[] elements, int skip, int firstOffset, int lastOffset) {
+            int nextFastOffset = firstOffset;
+            for (int i = 0; i < elements.length; i++) {
+                ListNode node = new ListNode((E) elements[i], last, null);
+                if (last != null) last.next = node;
+                else first = node;
+                last = node;
+
+                if (i == nextFastOffset && i <= lastOffset) {
+                    FastNode fast = new FastNode(node, lastFast, null, i - lastFastOffset);
+                    if (lastFast != null) lastFast.next = fast;
+                    else {
+                        firstFast = fast;
+                        firstFastOffset = i;
+                    }
+                    node.fastLink = fast;
+                    lastFast = fast;
+                    lastFastOffset = i;
+                    fastCount++;
+                    nextFastOffset += skip;
+                }
+            }
+        }
+    }
+
+    /**
+     * Links a chain's fast nodes into the fast layer between two existing fast nodes
+     * and recomputes the gaps at both ends of the chain's fast nodes.
+     *
+     * @param chain      The chain, already linked into the main list
+     * @param left       Existing fast node before the chain
+     * @param leftIndex  Final index of left's target
+     * @param right      Existing fast node after the chain
+     * @param rightIndex Final index of right's target
+     * @param chainIndex Final index of the chain's first node
+     */
+    private void spliceFastNodes(Chain chain, FastNode left, int leftIndex,
+                                 FastNode right, int rightIndex, int chainIndex) {
+        invalidateLookup();
+        int lastIndex = leftIndex;
+        if (chain.firstFast != null) {
+            chain.firstFast.gapFromPrev = chainIndex + chain.firstFastOffset - leftIndex;
+            left.next = chain.firstFast;
+            chain.firstFast.prev = left;
+            chain.lastFast.next = right;
+            right.prev = chain.lastFast;
+            fastNodeCount += chain.fastCount;
+            lastIndex = chainIndex + chain.lastFastOffset;
+        }
+        adjustGap(right, rightIndex - lastIndex - right.gapFromPrev);
+    }
+
+    /**
+     * Restores local spacing after a chain was spliced in between two fast nodes:
+     * the index spans take in the chain's fast nodes, and the segments at both ends
+     * of the chain may have come out too short or too long.
+     *
+     * @param left  Existing fast node before the chain
+     * @param right Existing fast node after the chain
+     */
+    private void balanceSplice(FastNode left, FastNode right) {
+        balanceTowers(left);
+        balanceSegment(left.next);
+        balanceSegment(right);
+    }
+
+    /**
+     * Removes the element at the specified position with O(sqrt(n)) average complexity.
+     * This method optimizes removal through:
+     * <ul>
+     *   <li>Fast layer traversal for positioning</li>
+     *   <li>Special handling for head/tail removals</li>
+     *   <li>Proper fast layer maintenance</li>
+     *   <li>Merging or splitting the touched segment locally</li>
+     * </ul>
+     *
+     * @param index Index of element to remove
+     * @return The removed element
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        buildIndex();
+
+        // Handle head removal
+        if (index == 0) {
+            ListNode oldHead = head;
+            E data = oldHead.data;
+
+            head = oldHead.next;
+            if (head != null) {
+                head.prev = null;
+            } else {
+                tail = null; // List is now empty
+            }
+
+            size--;
+            modCount++;
+            if (size == 0) {
+                // List is now empty
+                fastHead = fastTail = null;
+                indexHead = null;
+                relayCursor = null;
+                hotSegment = null;
+                coolingDue = false;
+                invalidateLookup();
+                fastNodeCount = 0;
+                pendingGap = 0;
+                currentSkipDistance = laidSkip = policy.minSkip();
+                clearFinger();
+            } else {
+                // Update fast head sentinel and directly update gap
+                fastHead.target = head;
+                if (fastHead.next != null) {
+                    shiftGap(fastHead.next, -1);
+                    // A fast node on the new head would duplicate the sentinel
+                    if (fastHead.next.gapFromPrev == 0 && fastHead.next != fastTail) {
+                        removeFastNode(fastHead.next);
+                    }
+                }
+                head.fastLink = fastHead;
+                shiftFinger(0, -1);
+                balanceSegment(fastHead.next);
+                shedIndex();
+                adaptStep();
+                relayStep();
+            }
+
+            return data;
+        }
+
+        // Handle tail removal
+        if (index == size - 1) {
+            ListNode oldTail = tail;
+            E data = oldTail.data;
+
+            if (tail.prev != null) {
+                tail = oldTail.prev;
+                tail.next = null;
+                size--;
+                modCount++;
+
+                // Decrement the gap to tail
+                if (fastTail != null && fastTail.prev != null) {
+                    shiftGap(fastTail, -1);
+                    // A fast node on the new tail would duplicate the sentinel
+                    if (fastTail.gapFromPrev == 0 && fastTail.prev != fastHead) {
+                        removeFastNode(fastTail.prev);
+                    }
+                }
+
+                // Update fast tail sentinel
+                updateTailSentinel();
+                shiftFinger(index, -1);
+                shedIndex();
+                adaptStep();
+                relayStep();
+            } else {
+                // Single element list
+                head = tail = null;
+                size = 0;
+                modCount++;
+                fastHead = fastTail = null;
+                indexHead = null;
+                relayCursor = null;
+                hotSegment = null;
+                coolingDue = false;
+                invalidateLookup();
+                fastNodeCount = 0;
+                pendingGap = 0;
+                currentSkipDistance = laidSkip = policy.minSkip();
+                clearFinger();
+            }
+
+            return data;
+        }
+
+        // Handle internal node removal: resolve the node and its covering fast node in one pass
+        ListNode target = positionAt(index);
+        if (target == null) throw new IllegalStateException("Node not found at index: " + index);
+        E data = target.data;
+
+        // The first fast node after the removed node is the one that shifts
+        FastNode updateFast = fingerNode == target ? fingerFast.next : null;
+
+        // The finger moves to the predecessor so clustered removals stay local
+        FastNode predecessorFast = null;
+        int predecessorFastIndex = -1;
+        if (fingerNode == target) {
+            predecessorFast = fingerFast;
+            predecessorFastIndex = fingerFastIndex;
+            if (predecessorFast == target.fastLink) {
+                predecessorFastIndex -= predecessorFast.gapFromPrev;
+                predecessorFast = predecessorFast.prev;
+            }
+        }
+
+        // Update main list connections
+        if (target.prev != null) target.prev.next = target.next;
+        if (target.next != null) target.next.prev = target.prev;
+
+        size--;
+        modCount++;
+
+        // Update fast layer if needed
+        if (target.fastLink != null && target.fastLink != fastHead && target.fastLink != fastTail) {
+            // If we're removing a fast node, merge its gap (less the removed node) into the next one
+            FastNode fastNode = target.fastLink;
+            updateFast = fastNode.next;
+            if (fastNode.next != null) {
+                shiftGap(fastNode.next, -1);
+            }
+            removeFastNode(fastNode);
+        } else if (updateFast != null) {
+            // Otherwise just decrement the gap in the fast layer
+            shiftGap(updateFast, -1);
+        }
+
+        if (predecessorFast != null) {
+            setFinger(index - 1, target.prev, predecessorFast, predecessorFastIndex);
+        } else {
+            clearFinger();
+        }
+
+        // Merge or split the touched segment locally
+        balanceSegment(updateFast);
+        shedIndex();
+        adaptStep();
+        relayStep();
+
+        return data;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element with optimized search.
+     * This method improves on O(n) worst case through:
+     * <ul>
+     *   <li>Chunk-based forward search that tracks the absolute index</li>
+     *   <li>Leaving the finger on the match, so the removal itself starts in place</li>
+     *   <li>Proper fast layer maintenance through {@link #remove(int)}</li>
+     * </ul>
+     *
+     * @param o Element to remove (may be null)
+     * @return true if element was found and removed, false otherwise
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element.
+     * The fast layer is scanned chunk by chunk from {@code fastHead}:
+     * <ul>
+     *   <li>Each chunk covers the nodes from one fast node's target up to the next</li>
+     *   <li>The absolute index is carried forward through {@code gapFromPrev}</li>
+     *   <li>On a match the finger is left on the element, so a following
+     *       {@code get}, {@code set} or {@code remove} at that index is O(1)</li>
+     * </ul>
+     *
+     * @param o Element to search for (may be null)
+     * @return Index of the first occurrence, or -1 if absent
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (head == null) return -1;
+        if (fastHead == null) return indexOfNormally(o);
+
+        int index = 0;
+        for (FastNode fast = fastHead; fast != null; fast = fast.next) {
+            ListNode node = fast.target;
+            int count = fast.next == null ? 1 : fast.next.gapFromPrev;
+            for (int i = 0; i < count && node != null; i++, node = node.next) {
+                if (matches(o, node.data)) {
+                    setFinger(index + i, node, fast, index);
+                    return index + i;
+                }
+            }
+            if (fast.next != null) index += fast.next.gapFromPrev;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element.
+     * The fast layer is scanned chunk by chunk backward from {@code fastTail};
+     * each chunk is walked from its fast node's target toward the previous fast node,
+     * and the absolute index is carried backward through {@code gapFromPrev}.
+     * On a match the finger is left on the element.
+     *
+     * @param o Element to search for (may be null)
+     * @return Index of the last occurrence, or -1 if absent
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (head == null) return -1;
+        if (fastTail == null) return lastIndexOfNormally(o);
+
+        int index = size - 1;
+        for (FastNode fast = fastTail; fast != null; fast = fast.prev) {
+            ListNode node = fast.target;
+            int count = fast.prev == null ? 1 : fast.gapFromPrev;
+            for (int i = 0; i < count && node != null; i++, node = node.prev) {
+                if (matches(o, node.data)) {
+                    if (i == 0) setFinger(index, node, fast, index);
+                    else setFinger(index - i, node, fast.prev, index - fast.gapFromPrev);
+                    return index - i;
+                }
+            }
+            index -= fast.gapFromPrev;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     * The list is scanned from both ends at once, so elements near either end
+     * are found early; the scan stops when the two sides meet.
+     *
+     * @param o Element to search for (may be null)
+     * @return true if the element is present
+     */
+    @Override
+    public boolean contains(Object o) {
+        ListNode front = head;
+        ListNode back = tail;
+        for (int remaining = (size + 1) / 2; remaining > 0 && front != null && back != null; remaining--) {
+            if (matches(o, front.data) || matches(o, back.data)) return true;
+            front = front.next;
+            back = back.prev;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this list contains every element of the specified collection.
+     *
+     * @param c Collection to check
+     * @return true if all elements are present
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean containsAll(java.util.Collection<?> c) {
+        java.util.Objects.requireNonNull(c);
+        for (Object o : c) {
+            if (!contains(o)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if the list is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Null-safe equality used by every search. */
+    private static boolean matches(Object o, Object data) {
+        return o == null ? data == null : o.equals(data);
+    }
+
+    /**
+     * Fallback forward search that ignores the fast layer.
+     * Used only when the fast layer is missing.
+     */
+    private int indexOfNormally(Object o) {
+        int index = 0;
+        for (ListNode node = head; node != null; node = node.next, index++) {
+            if (matches(o, node.data)) return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Fallback backward search that ignores the fast layer.
+     * Used only when the fast layer is missing.
+     */
+    private int lastIndexOfNormally(Object o) {
+        int index = size - 1;
+        for (ListNode node = tail; node != null; node = node.prev, index--) {
+            if (matches(o, node.data)) return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes every element matching the filter in a single sweep of the list.
+     * The work is split into two linear passes:
+     * <ul>
+     *   <li>The filter is evaluated for every element first, so an exception thrown
+     *       by the filter leaves the list untouched</li>
+     *   <li>One sweep then relinks the survivors, recomputes the gap of every surviving
+     *       fast node from its new index, and drops fast nodes whose targets were removed</li>
+     *   <li>Surviving fast nodes that end up closer than half the skip distance to their
+     *       predecessor are dropped in the same sweep, so heavy filtering does not leave
+     *       an over-dense fast layer behind</li>
+     * </ul>
+     * No per-element rebalancing happens, so the whole operation is O(n).
+     *
+     * @param filter Predicate that returns true for elements to remove
+     * @return true if any element was removed
+     * @throws NullPointerException if the filter is null
+     * @throws java.util.ConcurrentModificationException if the filter modifies the list
+     */
+    @Override
+    public boolean removeIf(java.util.function.Predicate<? super E> filter) {
+        java.util.Objects.requireNonNull(filter);
+        if (head == null) return false;
+        buildIndex();
+
+        // Evaluate the filter before touching the structure
+        int expectedModCount = modCount;
+        java.util.BitSet doomed = new java.util.BitSet(size);
+        int index = 0;
+        for (ListNode node = head; node != null; node = node.next, index++) {
+            if (filter.test(node.data)) doomed.set(index);
+        }
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
+        }
+
+        int removed = doomed.cardinality();
+        if (removed == 0) return false;
+        if (removed == size) {
+            clear();
+            return true;
+        }
+
+        invalidateLookup();
+        int minGap = Math.max(1, policy.mergeGap(currentSkipDistance));
+        ListNode newHead = null;
+        ListNode lastKept = null;
+        FastNode lastFast = fastHead;
+        int lastFastIndex = 0;
+        int keptFast = 0;
+        int newIndex = 0;
+
+        ListNode node = head;
+        for (int oldIndex = 0; node != null; oldIndex++) {
+            ListNode next = node.next;
+            FastNode fast = node.fastLink;
+            boolean interior = fast != null && fast != fastHead && fast != fastTail;
+
+            if (doomed.get(oldIndex)) {
+                if (interior) detachFastNode(fast);
+                node.fastLink = null;
+                node.prev = node.next = null;
+            } else {
+                node.prev = lastKept;
+                if (lastKept == null) newHead = node;
+                else lastKept.next = node;
+                lastKept = node;
+
+                if (interior) {
+                    int gap = newIndex - lastFastIndex;
+                    if (newIndex > 0 && gap >= minGap) {
+                        fast.prev = lastFast;
+                        lastFast.next = fast;
+                        fast.gapFromPrev = gap;
+                        lastFast = fast;
+                        lastFastIndex = newIndex;
+                        keptFast++;
+                    } else {
+                        detachFastNode(fast);
+                        node.fastLink = null;
+                    }
+                }
+                newIndex++;
+            }
+            node = next;
+        }
+        lastKept.next = null;
+
+        head = newHead;
+        tail = lastKept;
+        size = newIndex;
+
+        // An interior fast node may not sit on the new tail
+        if (lastFast != fastHead && lastFast.target == tail) {
+            FastNode dropped = lastFast;
+            lastFast = dropped.prev;
+            lastFastIndex -= dropped.gapFromPrev;
+            detachFastNode(dropped);
+            tail.fastLink = null;
+            keptFast--;
+        }
+
+        lastFast.next = fastTail;
+        fastTail.prev = lastFast;
+        fastTail.gapFromPrev = (size - 1) - lastFastIndex;
+        pendingGap = fastTail.gapFromPrev;
+        fastNodeCount = keptFast + 2;
+
+        fastHead.target = head;
+        head.fastLink = fastHead;
+        updateTailSentinel();
+        updateIndexMode();
+
+        modCount++;
+        clearFinger();
+        return true;
+    }
+
+    /**
+     * Clears a fast node's references without touching gaps or neighbours.
+     * Only used by the bulk sweep, which relinks the surviving fast nodes itself.
+     */
+    private void detachFastNode(FastNode fast) {
+        invalidateLookup();
+        if (relayCursor == fast) relayCursor = fastHead;
+        fast.target = null;
+        fast.prev = fast.next = null;
+    }
+
+    /**
+     * Removes all elements that are contained in the specified collection.
+     * Runs as a single {@link #removeIf} sweep, so the cost is O(n) calls to
+     * {@code c.contains} rather than one positional removal per match.
+     *
+     * @param c Collection of elements to remove
+     * @return true if the list changed
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean removeAll(java.util.Collection<?> c) {
+        java.util.Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Retains only the elements that are contained in the specified collection.
+     * Runs as a single {@link #removeIf} sweep.
+     *
+     * @param c Collection of elements to keep
+     * @return true if the list changed
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean retainAll(java.util.Collection<?> c) {
+        java.util.Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Removes the elements in {@code [fromIndex, toIndex)} by unlinking the whole segment at once.
+     * The operation costs O(sqrt(n) + k / skip) instead of k single removals:
+     * <ul>
+     *   <li>One positioning pass finds the first removed node and the last fast node before it</li>
+     *   <li>Fast nodes inside the range are dropped by hopping the fast layer, not the segment</li>
+     *   <li>The last removed node is reached by walking back from the first fast node after the range</li>
+     *   <li>The gaps on either side of the range are merged into a single gap</li>
+     * </ul>
+     *
+     * @param fromIndex Index of the first element to remove
+     * @param toIndex   Index after the last element to remove
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    private void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IndexOutOfBoundsException();
+        if (fromIndex == toIndex) return;
+        if (fromIndex == 0 && toIndex == size) {
+            clear();
+            return;
+        }
+        buildIndex();
+        int removed = toIndex - fromIndex;
+        boolean toEnd = toIndex == size;
+
+        // Position once: the first removed node and the last fast node before the range
+        ListNode first = getNode(fromIndex);
+        if (first == null) throw new IllegalStateException("Target node not found at index: " + fromIndex);
+
+        FastNode left;
+        int leftIndex;
+        if (fingerNode == first) {
+            left = fingerFast;
+            leftIndex = fingerFastIndex;
+            if (leftIndex == fromIndex && fromIndex > 0) {
+                leftIndex -= left.gapFromPrev;
+                left = left.prev;
+            }
+        } else {
+            // Fallback: walk the fast layer from its head
+            left = fastHead;
+            leftIndex = 0;
+            while (left.next != null && leftIndex + left.next.gapFromPrev < fromIndex) {
+                leftIndex += left.next.gapFromPrev;
+                left = left.next;
+            }
+        }
+
+        // Drop every interior fast node whose target lies inside the range
+        FastNode right = left.next;
+        int rightIndex = leftIndex + right.gapFromPrev;
+        while (rightIndex < toIndex && right != fastTail) {
+            FastNode doomed = right;
+            right = right.next;
+            rightIndex += right.gapFromPrev;
+            doomed.target.fastLink = null;
+            removeTower(doomed);
+            detachFastNode(doomed);
+            fastNodeCount--;
+        }
+
+        // The last removed node sits just before the range end
+        ListNode last;
+        if (toEnd) {
+            last = tail;
+        } else {
+            last = right.target;
+            for (int i = rightIndex; i >= toIndex; i--) last = last.prev;
+        }
+
+        // Unlink the segment from the main list
+        ListNode before = first.prev;
+        ListNode after = last.next;
+        if (before != null) before.next = after;
+        else head = after;
+        if (after != null) after.prev = before;
+        else tail = before;
+        first.prev = null;
+        last.next = null;
+        first.fastLink = null;
+        last.fastLink = null;
+
+        // Merge the gaps on either side of the range
+        left.next = right;
+        right.prev = left;
+        adjustGap(right, (rightIndex - removed - leftIndex) - right.gapFromPrev);
+        shiftIndex(right, -removed);
+        size -= removed;
+        balanceTowers(left);
+
+        // Interior fast nodes may not sit on the new head or tail
+        if (fromIndex == 0) {
+            fastHead.target = head;
+            if (right != fastTail && right.target == head) removeFastNode(right);
+            head.fastLink = fastHead;
+        }
+        if (toEnd && left != fastHead && left.target == tail) {
+            removeFastNode(left);
+        }
+        updateTailSentinel();
+
+        modCount++;
+        clearFinger();
+        balanceSegment(right);
+        shedIndex();
+    }
+
+    /**
+     * Gets the node at the specified index using the cheapest available route.
+     * This method estimates the hop count from every useful starting point and takes the lowest:
+     * <ul>
+     *   <li>Direct access for endpoints (head/tail)</li>
+     *   <li>Plain walk from head, tail or the finger</li>
+     *   <li>Fast layer walk from fastHead, fastTail or the finger's covering fast node</li>
+     *   <li>Prefix-sum search of the Fenwick tree over the gaps, or binary search of the
+     *       anchor arrays, when built</li>
+     *   <li>Fallback to normal traversal when fast layer fails</li>
+     * </ul>
+     *
+     * A fast layer route pays one hop per segment crossed, then enters the target's segment
+     * from whichever end is closer, which costs a quarter of a segment on average.
+     * With index levels the cost model is skipped: a finger within one skip is walked from,
+     * otherwise the index is descended level by level in O(log n).
+     * The resolved node is remembered as the new finger.
+     *
+     * @param index The index of the desired node
+     * @return The node at the specified index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException if target node cannot be found
+     */
+    private ListNode getNode(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        buildIndex();
+
+        // Direct access for endpoints
+        if (index == 0) {
+            setFinger(0, head, fastHead, 0);
+            return head;
+        }
+        if (index == size - 1) {
+            setFinger(size - 1, tail, fastTail, size - 1);
+            return tail;
+        }
+
+        // Without a fast layer only a plain walk is possible
+        if (fastHead == null || fastTail == null || fastNodeCount < 2) {
+            return getNodeNormally(index);
+        }
+
+        ensureIndex();
+        if (indexHead != null) {
+            // Index levels: walk from a nearby finger, otherwise descend from the top level
+            ListNode result;
+            if (fingerNode != null && Math.abs(index - fingerIndex) <= policy.minSkip()) {
+                result = walkFrom(fingerNode, fingerIndex, fingerFast, fingerFastIndex, index);
+            } else {
+                IndexNode node = indexHead;
+                int nodeIndex = 0;
+                while (true) {
+                    while (node.next != null && nodeIndex + node.next.gapFromPrev <= index) {
+                        nodeIndex += node.next.gapFromPrev;
+                        node = node.next;
+                    }
+                    if (node.down == null) break;
+                    node = node.down;
+                }
+                result = seekFast(node.base, nodeIndex, index);
+            }
+            return result != null ? result : getNodeNormally(index);
+        }
+
+        // Estimate hop counts for each starting point
+        int averageGap = Math.max(1, (size - 1) / (fastNodeCount - 1));
+        int headCost = routeCost(0, 0, index, averageGap);
+        int tailCost = routeCost(size - 1, size - 1, index, averageGap);
+        int fingerCost = fingerNode != null
+                ? routeCost(fingerIndex, fingerFastIndex, index, averageGap)
+                : Integer.MAX_VALUE;
+        int lookupCost = Integer.MAX_VALUE;
+        if (ensureLookup()) {
+            // A Fenwick descent reads about twice as many entries as a binary search of the anchors
+            lookupCost = anchorIndices != null
+                    ? (32 - Integer.numberOfLeadingZeros(anchorCount)) + averageGap / 4
+                    : 2 * (32 - Integer.numberOfLeadingZeros(fenwickCount)) + averageGap / 4;
+        }
+
+        ListNode result;
+        if (lookupCost < fingerCost && lookupCost < headCost && lookupCost < tailCost) {
+            if (anchorIndices != null) {
+                int slot = anchorSearch(index);
+                result = seekFast(anchorNodes[slot], anchorIndexOf(slot), index);
+            } else {
+                int slot = fenwickSearch(index);
+                result = seekFast(fenwickNodes[slot], fenwickIndexOf(slot), index);
+            }
+        } else if (fingerCost <= headCost && fingerCost <= tailCost) {
+            result = routeFrom(fingerNode, fingerIndex, fingerFast, fingerFastIndex, index, averageGap);
+        } else if (headCost <= tailCost) {
+            result = routeFrom(head, 0, fastHead, 0, index, averageGap);
+        } else {
+            result = routeFrom(tail, size - 1, fastTail, size - 1, index, averageGap);
+        }
+
+        // Fallback to normal traversal if fast layer failed
+        if (result == null) {
+            result = getNodeNormally(index);
+        }
+
+        return result;
+    }
+
+    /**
+     * Resolves a node together with its covering fast node in a single positioning pass.
+     * On return the finger holds the node, its index and its covering fast node, so
+     * mutators take the fast node whose gap they adjust from the finger rather than
+     * walking the fast layer a second time. Only the plain-walk fallback of
+     * {@link #getNode(int)} leaves the finger elsewhere; the covering fast node is then
+     * found by walking back to the nearest fast link.
+     *
+     * @param index The index of the desired node
+     * @return The node at the specified index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private ListNode positionAt(int index) {
+        ListNode node = getNode(index);
+        if (node == null || (fingerNode == node && fingerIndex == index)) return node;
+
+        ListNode covered = node;
+        int fastIndex = index;
+        while (covered != null && covered.fastLink == null) {
+            covered = covered.prev;
+            fastIndex--;
+        }
+        if (covered != null) {
+            setFinger(index, node, covered.fastLink, fastIndex);
+        } else {
+            clearFinger();
+        }
+        return node;
+    }
+
+    /**
+     * Estimates the hops needed to reach an index from a starting point, either by walking
+     * the main list from the starting node or by hopping the fast layer from its covering fast node.
+     *
+     * @param nodeIndex  Index of the starting node
+     * @param fastIndex  Index of the starting node's covering fast node
+     * @param index      Index of the desired node
+     * @param averageGap Average gap between fast nodes
+     * @return The estimated hop count of the cheaper of the two routes
+     */
+    private int routeCost(int nodeIndex, int fastIndex, int index, int averageGap) {
+        int walk = Math.abs(index - nodeIndex);
+        int fast = Math.abs(index - fastIndex) / averageGap + averageGap / 4;
+        return Math.min(walk, fast);
+    }
+
+    /**
+     * Reaches an index from a starting point using whichever of its two routes is cheaper.
+     *
+     * @param node       The starting node
+     * @param nodeIndex  Index of the starting node
+     * @param fast       The starting node's covering fast node
+     * @param fastIndex  Index of the covering fast node's target
+     * @param index      Index of the desired node
+     * @param averageGap Average gap between fast nodes
+     * @return The node at the specified index, or null if the layers are corrupted
+     */
+    private ListNode routeFrom(ListNode node, int nodeIndex, FastNode fast, int fastIndex,
+                               int index, int averageGap) {
+        if (Math.abs(index - nodeIndex) <= Math.abs(index - fastIndex) / averageGap + averageGap / 4) {
+            return walkFrom(node, nodeIndex, fast, fastIndex, index);
+        }
+        return seekFast(fast, fastIndex, index);
+    }
+
+    /**
+     * Hops the fast layer from a fast node to the segment holding the target,
+     * then enters the segment from whichever end is closer.
+     *
+     * @param fast      The fast node to start from
+     * @param fastIndex Index of the fast node's target
+     * @param index     Index of the desired node
+     * @return The node at the specified index, or null if the layers are corrupted
+     */
+    private ListNode seekFast(FastNode fast, int fastIndex, int index) {
+        while (fastIndex > index && fast.prev != null) {
+            fastIndex -= fast.gapFromPrev;
+            fast = fast.prev;
+        }
+        while (fast.next != null && fastIndex + fast.next.gapFromPrev <= index) {
+            fastIndex += fast.next.gapFromPrev;
+            fast = fast.next;
+        }
+        if (fast.target == null) return null;
+
+        FastNode end = fast.next;
+        if (end == null || end.target == null || index - fastIndex <= end.gapFromPrev / 2) {
+            return walkFrom(fast.target, fastIndex, fast, fastIndex, index);
+        }
+        int endIndex = fastIndex + end.gapFromPrev;
+        return walkFrom(end.target, endIndex, end, endIndex, index);
+    }
+
+    /**
+     * Walks the main list from a node to the target, tracking the covering fast node
+     * (the last fast node at or before the current node) along the way.
+     * The target becomes the new finger.
+     *
+     * @param node      The node to start from
+     * @param nodeIndex Index of the starting node
+     * @param fast      The starting node's covering fast node
+     * @param fastIndex Index of the covering fast node's target
+     * @param index     Index of the desired node
+     * @return The node at the specified index, or null if the walk runs off the list
+     */
+    private ListNode walkFrom(ListNode node, int nodeIndex, FastNode fast, int fastIndex, int index) {
+        while (nodeIndex < index && node != null) {
+            node = node.next;
+            nodeIndex++;
+            if (fast.next != null && fast.next.target == node) {
+                fastIndex += fast.next.gapFromPrev;
+                fast = fast.next;
+            }
+        }
+        while (nodeIndex > index && node != null) {
+            if (fast.target == node && fast.prev != null) {
+                fastIndex -= fast.gapFromPrev;
+                fast = fast.prev;
+            }
+            node = node.prev;
+            nodeIndex--;
+        }
+        if (node == null) return null;
+
+        setFinger(nodeIndex, node, fast, fastIndex);
+        return node;
+    }
+
+    /**
+     * Remembers a resolved position so that nearby operations can start from it.
+     *
+     * @param index     Index of the resolved node
+     * @param node      The resolved node
+     * @param fast      The node's covering fast node
+     * @param fastIndex Index of the covering fast node's target
+     */
+    private void setFinger(int index, ListNode node, FastNode fast, int fastIndex) {
+        fingerIndex = index;
+        fingerNode = node;
+        fingerFast = fast;
+        fingerFastIndex = fastIndex;
+    }
+
+    /**
+     * Forgets the finger. Used whenever the fast layer is rebuilt or the finger's
+     * position can no longer be tracked cheaply.
+     */
+    private void clearFinger() {
+        fingerIndex = -1;
+        fingerNode = null;
+        fingerFast = null;
+        fingerFastIndex = -1;
+    }
+
+    /**
+     * Keeps the finger valid after a single node was inserted or removed.
+     * Indices at or after the change are shifted; the finger is dropped if its
+     * node or covering fast node was removed.
+     *
+     * @param index The index that was inserted at or removed from
+     * @param delta 1 for an insertion, -1 for a removal
+     */
+    private void shiftFinger(int index, int delta) {
+        if (fingerNode == null) return;
+        if (delta < 0) {
+            if (index == fingerIndex || (index == fingerFastIndex && fingerFast != fastHead)) {
+                clearFinger();
+                return;
+            }
+            if (index < fingerIndex) fingerIndex--;
+            if (index < fingerFastIndex) fingerFastIndex--;
+        } else {
+            if (index <= fingerIndex) fingerIndex++;
+            if (index <= fingerFastIndex && fingerFast != fastHead) fingerFastIndex++;
+        }
+        // A fast node merged away as a side effect has had its target cleared
+        if (fingerFast.target == null) {
+            clearFinger();
+        } else if (fingerNode == tail) {
+            // A finger that became the tail is covered by the tail sentinel
+            fingerFast = fastTail;
+            fingerFastIndex = fingerIndex;
+        }
+    }
+
+    /**
+     * Gets a node by index using standard doubly-linked list traversal.
+     * This method is used as a fallback when:
+     * <ul>
+     *   <li>The list is too small for fast layer to be beneficial</li>
+     *   <li>The fast layer traversal fails</li>
+     *   <li>The fast layer is not properly initialized</li>
+     * </ul>
+     *
+     * @param index The index of the desired node
+     * @return The node at the specified index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private ListNode getNodeNormally(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        ListNode current;
+        if (index <= size / 2) {
+            // Traverse forward from head
+            current = head;
+            for (int i = 0; i < index && current != null; i++) {
+                current = current.next;
+            }
+        } else {
+            // Traverse backward from tail
+            current = tail;
+            for (int i = size - 1; i > index && current != null; i--) {
+                current = current.prev;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Lays fast nodes every {@code skip} nodes between the sentinels, which must hold no
+     * other fast nodes, and sets up the index levels if the list is large enough.
+     * This is the only full build of the fast layer: mutations keep the spacing with local
+     * splits, merges and incremental re-lays, so it runs only when a deferred index is built
+     * or a copy source has no fast layer.
+     *
+     * @param skip The spacing to lay the fast nodes at
+     */
+    private void layFastLayer(int skip) {
+        fastHead.next = fastTail;
+        fastTail.prev = fastHead;
+        fastNodeCount = 2;
+        clearFinger();
+        invalidateLookup();
+
+        // Lay with even spacing; gap counts nodes since the last fast node
+        laidSkip = skip;
+        relayCursor = null;
+        hotSegment = null;
+        coolingDue = false;
+        int gap = 0;
+        ListNode mainCurrent = head.next;
+        for (int counter = 1; mainCurrent != null && mainCurrent != tail; counter++) {
+            gap++;
+            if (counter % skip == 0) {
+                appendFastNodeToLast(mainCurrent, gap);
+                gap = 0;
+            }
+            mainCurrent = mainCurrent.next;
+        }
+
+        fastTail.gapFromPrev = (head == tail) ? 0 : gap + 1;
+        pendingGap = fastTail.gapFromPrev;
+        head.fastLink = fastHead;
+        updateTailSentinel();
+        updateIndexMode();
+    }
+
+    /**
+     * Returns a shallow copy of this list; the elements themselves are not cloned.
+     * The copy is built in O(n) by {@link #copyStructureFrom}, which copies the fast
+     * layer node for node, so no rebalance or skip-distance ramp-up is needed.
+     *
+     * @return A shallow copy of this list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public SkipList<E> clone() {
+        SkipList<E> copy;
+        try {
+            copy = (SkipList<E>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        copy.copyStructureFrom(this);
+        return copy;
+    }
+
+    /**
+     * Returns a new list holding the same elements as the source, in the same order,
+     * with an identical fast layer and the same rebalance policy.
+     *
+     * @param source The list to copy
+     * @param <E>    Element type of the new list
+     * @return A new list with the source's elements and fast layer layout
+     * @throws NullPointerException if the source is null
+     */
+    public static <E> SkipList<E> copyOf(SkipList<? extends E> source) {
+        SkipList<E> copy = new SkipList<>(source.policy);
+        copy.copyStructureFrom(source);
+        return copy;
+    }
+
+    /**
+     * Replaces this list's state with a copy of the source's structure.
+     * Source and destination are walked in lockstep:
+     * <ul>
+     *   <li>Every main list node is copied in order</li>
+     *   <li>Every fast node is copied with its {@code gapFromPrev} as its target is passed</li>
+     *   <li>Skip distance, pending gap and fast node count are copied exactly</li>
+     *   <li>A re-lay in progress carries over: the copy's cursor is the fast node copied from
+     *       the source's, so the copy finishes the same re-lay from the same place</li>
+     *   <li>Falls back to a fresh fast layer if the source has none</li>
+     * </ul>
+     *
+     * @param source The list to copy
+     * @param <S>    Element type of the source
+     */
+    private <S extends E> void copyStructureFrom(SkipList<S> source) {
+        head = tail = null;
+        fastHead = fastTail = null;
+        indexHead = null;
+        relayCursor = null;
+        hotSegment = null;
+        coolingDue = false;
+        indexDeferred = false;
+        invalidateLookup();
+        size = 0;
+        modCount = 0;
+        pendingGap = 0;
+        fastNodeCount = 0;
+        currentSkipDistance = source.currentSkipDistance;
+        laidSkip = source.laidSkip;
+        clearFinger();
+        if (source.head == null) return;
+
+        SkipList<S>.FastNode sourceFast = source.fastHead != null ? source.fastHead.next : null;
+        FastNode lastFast = new FastNode(null, null, null, 0);
+        fastHead = lastFast;
+        if (source.relayCursor == source.fastHead) relayCursor = fastHead;
+        for (SkipList<S>.ListNode sourceNode = source.head; sourceNode != null; sourceNode = sourceNode.next) {
+            ListNode node = new ListNode(sourceNode.data, tail, null);
+            if (tail == null) head = node;
+            else tail.next = node;
+            tail = node;
+            size++;
+
+            if (sourceFast != null && sourceFast != source.fastTail && sourceFast.target == sourceNode) {
+                FastNode fast = new FastNode(node, lastFast, null, sourceFast.gapFromPrev);
+                lastFast.next = fast;
+                node.fastLink = fast;
+                lastFast = fast;
+                if (sourceFast == source.relayCursor) relayCursor = fast;
+                sourceFast = sourceFast.next;
+            }
+        }
+
+        if (source.fastTail == null) {
+            // The source has no fast layer to copy (it defers it); lay one from scratch
+            fastHead = null;
+            initializeSentinels();
+            layFastLayer(bulkSkip(size));
+            return;
+        }
+
+        fastTail = new FastNode(tail, lastFast, null, source.fastTail.gapFromPrev);
+        lastFast.next = fastTail;
+        if (source.relayCursor == source.fastTail) relayCursor = fastTail;
+        pendingGap = source.pendingGap;
+        fastNodeCount = source.fastNodeCount;
+        fastHead.target = head;
+        head.fastLink = fastHead;
+        updateTailSentinel();
+        updateIndexMode();
+    }
+
+    /**
+     * Removes all elements from the list and resets all internal state.
+     * This method ensures proper cleanup by:
+     * <ul>
+     *   <li>Clearing all node references</li>
+     *   <li>Resetting fast layer sentinels</li>
+     *   <li>Resetting all counters and metrics</li>
+     *   <li>Restoring initial skip distance</li>
+     * </ul>
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        fastHead = fastTail = null;
+        indexHead = null;
+        relayCursor = null;
+        hotSegment = null;
+        coolingDue = false;
+        invalidateLookup();
+        size = 0;
+        modCount++;
+        pendingGap = 0;
+        currentSkipDistance = laidSkip = policy.minSkip();
+        fastNodeCount = 0;
+        clearFinger();
+    }
+
+    /**
+     * Enters deferred-index mode for an append-only ingest phase. The fast layer and index
+     * levels are dropped, and until the list is next positioned:
+     * <ul>
+     *   <li>{@code add(E)} and appending {@code addAll} only link main list nodes, with no gap,
+     *       skip distance or fast node upkeep</li>
+     *   <li>Scans that need no positions ({@code contains}, {@code indexOf}, {@code forEach},
+     *       {@code toArray}, streams) walk the main list as usual</li>
+     *   <li>The first positional operation (get, set, insert or remove at an index, iterators,
+     *       {@code subList}, {@code removeIf}) calls {@link #buildIndex()} first</li>
+     * </ul>
+     * Ingest then costs about as much as appending to a bare linked list. Entering the mode
+     * and the build that ends it are structural modifications: iterators and views opened
+     * before either fail fast on their next use, even when the build was triggered by a read.
+     */
+    public void deferIndex() {
+        if (indexDeferred) return;
+        for (FastNode fast = fastHead; fast != null; fast = fast.next) {
+            if (fast.target != null) fast.target.fastLink = null;
+            fast.target = null;
+        }
+        fastHead = fastTail = null;
+        indexHead = null;
+        relayCursor = null;
+        hotSegment = null;
+        coolingDue = false;
+        invalidateLookup();
+        fastNodeCount = 0;
+        pendingGap = 0;
+        clearFinger();
+        indexDeferred = true;
+        modCount++;
+    }
+
+    /**
+     * Leaves deferred-index mode, laying the fast layer over the whole list in one O(n) pass
+     * at the skip distance the list's size calls for, and the index levels if it is large enough.
+     * Does nothing when the index is not deferred. Called by every positional operation, and
+     * may be called directly to pay for the build at a time of the caller's choosing. A build
+     * that lays a layer is a structural modification, so iterators opened before it fail fast.
+     */
+    public void buildIndex() {
+        if (!indexDeferred) return;
+        indexDeferred = false;
+        if (head == null) return;
+        initializeSentinels();
+        layFastLayer(bulkSkip(size));
+        modCount++;
+    }
+
+    /**
+     * Reshapes the fast layer after the reads sampled since the last insert or remove, for a
+     * policy with {@link RebalancePolicy#accessSampleInterval()} set. Reads only record where
+     * they land, so a list that is only read never adapts on its own; calling this after a
+     * read phase applies what they asked for:
+     * <ul>
+     *   <li>A due cooling pass merges cold segments first, freeing fast nodes</li>
+     *   <li>Every segment with at least HOT_SEGMENT_SAMPLES samples and a gap of at least
+     *       HOT_SPLIT_GAP is split, hottest first, each half keeping half the heat; passes
+     *       repeat while any half stays hot and the layer is within its budget</li>
+     * </ul>
+     * Each pass is O(F log F) for F fast nodes, and halving gaps bounds the passes by O(log(skip)). Does nothing for lists without sampling, with index
+     * levels or with a deferred index. A call that splits or merges is a structural
+     * modification, so iterators opened before it fail fast.
+     */
+    public void rebalance() {
+        boolean cool = coolingDue;
+        hotSegment = null;
+        coolingDue = false;
+        if (policy.accessSampleInterval() <= 0 || indexHead != null || fastHead == null) return;
+
+        int skip = getDynamicSkip();
+        int budget = accessBudget(skip);
+        int before = fastNodeCount;
+        if (cool) coolSegments(skip);
+        boolean split = false;
+        java.util.List<FastNode> hot = new java.util.ArrayList<>();
+        while (fastNodeCount < budget) {
+            hot.clear();
+            for (FastNode fast = fastHead.next; fast != null; fast = fast.next) {
+                if (fast.heat >= HOT_SEGMENT_SAMPLES && fast.gapFromPrev >= HOT_SPLIT_GAP) hot.add(fast);
+            }
+            if (hot.isEmpty()) break;
+
+            // Hottest first, once per pass, so that several hot spots share the budget
+            hot.sort((x, y) -> Integer.compare(y.heat, x.heat));
+            for (FastNode fast : hot) {
+                if (fastNodeCount >= budget) break;
+                FastNode half = splitSegment(fast);
+                half.heat = fast.heat / 2;
+                fast.heat -= half.heat;
+                split = true;
+            }
+        }
+        if (split || fastNodeCount != before) modCount++;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return The number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified position. Positioning goes through {@link #getNode}:
+     * <ul>
+     *   <li>With a single fast layer, from whichever of the finger, the lookup index, head, tail,
+     *       fastHead or fastTail is estimated to need the fewest hops, in O(sqrt(n)) on average</li>
+     *   <li>With index levels, from a nearby finger or by descending the levels, in O(log n)</li>
+     * </ul>
+     * Under a sampling policy the read is also recorded (see {@link RebalancePolicy#accessSampleInterval()}).
+     *
+     * @param index Index of the element to return
+     * @return The element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public E get(int index) {
+        ListNode node = getNode(index);
+        sampleAccess();
+        return node.data;
+    }
+
+    /**
+     * Replaces the element at the specified position in place.
+     * This is not a structural modification:
+     * <ul>
+     *   <li>The node is resolved once and only its data is swapped</li>
+     *   <li>Gaps, fast links and the modification count are left untouched</li>
+     *   <li>No segment is split or merged</li>
+     * </ul>
+     * Resolving the node moves the finger, so runs of nearby overwrites are O(distance).
+     *
+     * @param index   Index of the element to replace
+     * @param element Element to be stored at the specified position
+     * @return The element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public E set(int index, E element) {
+        ListNode node = getNode(index);
+        E previous = node.data;
+        node.data = element;
+        return previous;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in this list in proper sequence.
+     *
+     * @return An iterator over the elements in this list
+     */
+    @Override
+    public java.util.Iterator<E> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator over the elements in this list.
+     *
+     * @return A list iterator starting at the beginning of this list
+     */
+    @Override
+    public java.util.ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator starting at the specified position.
+     * Positioning costs O(sqrt(n)) once; every later step and edit is O(1).
+     *
+     * @param index Index of the first element to be returned by next()
+     * @return A list iterator starting at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public java.util.ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        return new ListItr(index);
+    }
+
+    /**
+     * List iterator that walks the main list directly.
+     * It tracks the fast node covering the element before its cursor, so structural
+     * edits made through it only adjust that fast node's neighbour gap in O(1)
+     * instead of re-walking the fast layer:
+     * <ul>
+     *   <li>{@code add} increments the gap of the first fast node after the cursor</li>
+     *   <li>{@code remove} decrements that gap, or merges the gap if a fast node's target is removed</li>
+     *   <li>{@code set} only swaps the element</li>
+     * </ul>
+     *
+     * With index levels each edit also updates one gap per level, so edits cost O(log n).
+     * Each edit then splits or merges the touched segment like positional edits do,
+     * and the iterator steps its fast node forward past any node a split placed before the cursor.
+     */
+    private class ListItr implements java.util.ListIterator<E> {
+        /** Node returned by the next call to next(), or null at the end of the list */
+        private ListNode next;
+
+        /** Index of the node returned by the next call to next() */
+        private int nextIndex;
+
+        /** Node returned by the last call to next() or previous(), or null after an edit */
+        private ListNode lastReturned;
+
+        /** Last fast node positioned before the cursor, or null at the start of the list */
+        private FastNode fast;
+
+        /** Index of the target of {@code fast} */
+        private int fastIndex;
+
+        /** Modification count this iterator expects the list to have, taken after any deferred build */
+        private int expectedModCount;
+
+        /**
+         * Constructs an iterator positioned before the element at the given index.
+         *
+         * @param index Index of the first element to be returned by next()
+         */
+        ListItr(int index) {
+            buildIndex();
+            expectedModCount = modCount;
+            if (index == size) {
+                next = null;
+                reseatAtEnd();
+            } else {
+                next = getNode(index);
+                if (index == 0) {
+                    fast = null;
+                } else if (fingerNode == next) {
+                    // The finger holds the covering fast node of the target
+                    fast = fingerFast;
+                    fastIndex = fingerFastIndex;
+                    if (fastIndex == index) {
+                        fastIndex -= fast.gapFromPrev;
+                        fast = fast.prev;
+                    }
+                } else {
+                    // Fallback: walk the fast layer from its head
+                    fast = fastHead;
+                    fastIndex = 0;
+                    while (fast.next != null && fastIndex + fast.next.gapFromPrev < index) {
+                        fastIndex += fast.next.gapFromPrev;
+                        fast = fast.next;
+                    }
+                }
+            }
+            nextIndex = index;
+        }
+
+        /**
+         * Points the fast node at the tail sentinel, which is the last fast node
+         * before a cursor at the end of the list.
+         */
+        private void reseatAtEnd() {
+            fast = size > 0 ? fastTail : null;
+            fastIndex = size - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextIndex >= size || next == null) throw new java.util.NoSuchElementException();
+
+            lastReturned = next;
+            next = next.next;
+
+            // Step the fast node onto the returned node if it is a fast node target
+            FastNode ahead = (fast == null) ? fastHead : fast.next;
+            if (ahead != null && ahead.target == lastReturned) {
+                fast = ahead;
+                fastIndex = nextIndex;
+            }
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (nextIndex <= 0) throw new java.util.NoSuchElementException();
+
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+
+            // Step the fast node back once the cursor is no longer past its target
+            if (fast != null && fast.target == next) {
+                fastIndex -= fast.gapFromPrev;
+                fast = fast.prev;
+            }
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+
+            boolean removedNext = (lastReturned == next);
+            int index = removedNext ? nextIndex : nextIndex - 1;
+            ListNode successor = lastReturned.next;
+            FastNode touched = null;
+
+            if (index == 0 || index == size - 1) {
+                // Endpoint removals are already O(1) and keep the sentinels in shape
+                SkipList.this.remove(index);
+            } else {
+                ListNode node = lastReturned;
+                node.prev.next = node.next;
+                node.next.prev = node.prev;
+
+                FastNode fastNode = node.fastLink;
+                if (fastNode != null && fastNode != fastHead && fastNode != fastTail) {
+                    // Removing a fast node target merges its gap into the next fast node
+                    if (fast == fastNode) {
+                        fastIndex -= fast.gapFromPrev;
+                        fast = fast.prev;
+                    }
+                    touched = fastNode.next;
+                    shiftGap(fastNode.next, -1);
+                    removeFastNode(fastNode);
+                } else {
+                    touched = fast.next;
+                    shiftGap(fast.next, -1);
                 }
+
+                size--;
+                modCount++;
+                shiftFinger(index, -1);
+                shedIndex();
             }
 
-            return data;
+            if (removedNext) {
+                next = successor;
+            } else {
+                nextIndex--;
+            }
+            if (nextIndex == 0) {
+                fast = null;
+            } else if (nextIndex == size) {
+                reseatAtEnd();
+            } else if (touched != null) {
+                balanceSegment(touched);
+                catchUp();
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
         }
 
-        // Handle tail removal
-        if (index == size - 1) {
-            ListNode oldTail = tail;
-            E data = oldTail.data;
+        @Override
+        public void set(E e) {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.data = e;
+        }
 
-            if (tail.prev != null) {
-                tail = oldTail.prev;
-                tail.next = null;
-                size--;
+        @Override
+        public void add(E e) {
+            checkForComodification();
 
-                // Update fast tail sentinel
-                updateTailSentinel();
-                if (fastTail != null && fastTail.prev != null) {
-                    // Decrement the gap to tail
-                    fastTail.gapFromPrev = Math.max(1, pendingGap - 1);
+            if (nextIndex == 0 || nextIndex == size) {
+                // Head inserts and appends are already O(1)
+                SkipList.this.add(nextIndex, e);
+                if (nextIndex == 0) {
+                    fast = fastHead;
+                    fastIndex = 0;
+                } else {
+                    reseatAtEnd();
                 }
-                pendingGap = Math.max(0, pendingGap - 1);
             } else {
-                // Single element list
-                head = tail = null;
-                size = 0;
-                fastHead = fastTail = null;
-                fastNodeCount = 0;
-                pendingGap = 0;
-                currentSkipDistance = MIN_SKIP;
+                ListNode newNode = new ListNode(e, next.prev, next);
+                next.prev.next = newNode;
+                next.prev = newNode;
+
+                // The first fast node at or after the cursor shifts by one
+                FastNode touched = fast.next;
+                shiftGap(touched, 1);
+
+                size++;
+                modCount++;
+                shiftFinger(nextIndex, 1);
+                balanceSegment(touched);
             }
 
-            return data;
+            nextIndex++;
+            if (fast != null) catchUp();
+            lastReturned = null;
+            expectedModCount = modCount;
         }
 
-        // Find the fast node that will need its gap updated
-        FastNode fast = fastHead;
-        FastNode updateFast = null;
-        int traversed = 0;
-
-        while (fast != null && fast.next != null) {
-            if (traversed + fast.next.gapFromPrev > index) {
-                updateFast = fast.next;  // This is the fast node whose gap needs updating
-                break;
+        /**
+         * Steps the fast node forward to the last fast node before the cursor after
+         * a local split may have placed a new one in between.
+         */
+        private void catchUp() {
+            while (fast.next != null && fastIndex + fast.next.gapFromPrev < nextIndex) {
+                fastIndex += fast.next.gapFromPrev;
+                fast = fast.next;
             }
-            traversed += fast.next.gapFromPrev;
-            fast = fast.next;
         }
 
-        // Handle internal node removal
-        ListNode target = getNode(index);
-        if (target == null) throw new IllegalStateException("Node not found at index: " + index);
-        E data = target.data;
+        /**
+         * Throws if the list was structurally modified other than through this iterator.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new java.util.ConcurrentModificationException();
+        }
+    }
 
-        // Update main list connections
-        if (target.prev != null) target.prev.next = target.next;
-        if (target.next != null) target.next.prev = target.prev;
+    /**
+     * Creates a late-binding, fail-fast spliterator over the elements in this list.
+     * Splitting happens at the fast node nearest the midpoint of the remaining range;
+     * both halves know their exact size from the fast layer's gaps, so splitting
+     * never walks the main list.
+     *
+     * @return A spliterator reporting ORDERED, SIZED and SUBSIZED
+     */
+    @Override
+    public java.util.Spliterator<E> spliterator() {
+        return new FastSpliterator();
+    }
 
-        size--;
+    /**
+     * Returns a sequential stream over the elements in this list.
+     * Terminal operations drain the stream through the spliterator's
+     * {@code forEachRemaining}, which is a direct loop over the main list.
+     *
+     * @return A sequential stream over the elements in this list
+     */
+    @Override
+    public java.util.stream.Stream<E> stream() {
+        return java.util.stream.StreamSupport.stream(new FastSpliterator(), false);
+    }
 
-        // Update fast layer if needed
-        if (target.fastLink != null && target.fastLink != fastHead && target.fastLink != fastTail) {
-            // If we're removing a fast node, merge its gap
-            FastNode fastNode = target.fastLink;
-            if (fastNode.next != null) {
-                fastNode.next.gapFromPrev += fastNode.gapFromPrev - 1;
-            }
-            removeFastNode(fastNode);
-        } else if (updateFast != null) {
-            // Otherwise just decrement the gap in the fast layer
-            updateFast.gapFromPrev = Math.max(1, updateFast.gapFromPrev - 1);
+    /**
+     * Performs the action for each element in order by looping over the main list directly.
+     * No iterator is created and no per-element bounds or index checks are made,
+     * so the loop allocates nothing.
+     *
+     * @param action Action to perform on each element
+     * @throws NullPointerException if the action is null
+     * @throws java.util.ConcurrentModificationException if the action modifies the list structurally
+     */
+    @Override
+    public void forEach(java.util.function.Consumer<? super E> action) {
+        java.util.Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (ListNode node = head; node != null && modCount == expectedModCount; node = node.next) {
+            action.accept(node.data);
         }
-
-        // Only rebalance for internal nodes
-        if (index > 1 && index < size - 1) {
-            checkAndRebalance();
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
         }
-
-        return data;
     }
 
     /**
-     * Removes the first occurrence of the specified element with optimized search.
-     * This method improves on O(n) worst case through:
-     * <ul>
-     *   <li>Quick head/tail checks</li>
-     *   <li>Chunk-based search using fast layer</li>
-     *   <li>Proper fast layer maintenance</li>
-     *   <li>Automatic rebalancing when needed</li>
-     * </ul>
+     * Replaces each element with the result of applying the operator to it.
+     * The new values are written into the existing nodes, so the fast layer is not touched.
      *
-     * @param o Element to remove
-     * @return true if element was found and removed, false otherwise
+     * @param operator Operator to apply to each element
+     * @throws NullPointerException if the operator is null
+     * @throws java.util.ConcurrentModificationException if the operator modifies the list structurally
      */
     @Override
-    public boolean remove(Object o) {
-        if (head == null || o == null) return false;
-
-        // Quick check for head/tail matches
-        if (o.equals(head.data)) {
-            remove(0);
-            return true;
+    public void replaceAll(java.util.function.UnaryOperator<E> operator) {
+        java.util.Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        for (ListNode node = head; node != null && modCount == expectedModCount; node = node.next) {
+            node.data = operator.apply(node.data);
         }
-        if (o.equals(tail.data)) {
-            remove(size - 1);
-            return true;
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
         }
+        modCount++;
+    }
 
-        // Parallel search from both ends using fast layer
-        FastNode frontFast = fastHead;
-        FastNode backFast = fastTail;
-        int frontIndex = 0;
-        int backIndex = size - 1;
+    /**
+     * Spliterator over a range of the main list that splits on fast node boundaries.
+     * Each instance covers the index range [index, end) and remembers a fast node at
+     * or before {@code index}, from which a split point is found by summing gaps.
+     */
+    private class FastSpliterator implements java.util.Spliterator<E> {
+        /** Node holding the next element to traverse */
+        private ListNode next;
 
-        while (frontFast != null && backFast != null &&
-                frontFast.next != null && backFast.prev != null &&
-                frontIndex < backIndex) {
+        /** Index of the next element, or -1 until bound to the list */
+        private int index;
 
-            // Check front chunk
-            if (searchChunk(frontFast, o)) return true;
-            frontIndex += frontFast.next.gapFromPrev;
-            frontFast = frontFast.next;
+        /** Index one past the last element covered */
+        private int end;
 
-            // Check back chunk if we haven't crossed paths
-            if (frontIndex < backIndex) {
-                if (searchChunk(backFast.prev, o)) return true;
-                backIndex -= backFast.gapFromPrev;
-                backFast = backFast.prev;
-            }
+        /** A fast node at or before {@code index} to start split searches from */
+        private FastNode fast;
+
+        /** Index of the target of {@code fast} */
+        private int fastIndex;
+
+        /** Modification count expected of the list */
+        private int expectedModCount;
+
+        /**
+         * Constructs a spliterator that binds to the whole list on first use.
+         */
+        FastSpliterator() {
+            this.index = -1;
         }
 
-        return false;
-    }
+        /**
+         * Constructs a spliterator over an already bound range.
+         *
+         * @param next             Node holding the first element of the range
+         * @param index            Index of the first element of the range
+         * @param end              Index one past the last element of the range
+         * @param fast             A fast node at or before index
+         * @param fastIndex        Index of the target of fast
+         * @param expectedModCount Modification count expected of the list
+         */
+        FastSpliterator(ListNode next, int index, int end, FastNode fast, int fastIndex,
+                        int expectedModCount) {
+            this.next = next;
+            this.index = index;
+            this.end = end;
+            this.fast = fast;
+            this.fastIndex = fastIndex;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Binds to the current state of the list if not yet bound.
+         */
+        private void bind() {
+            if (index < 0) {
+                next = head;
+                index = 0;
+                end = size;
+                fast = fastHead;
+                fastIndex = 0;
+                expectedModCount = modCount;
+            }
+        }
 
-    private boolean searchChunk(FastNode fast, Object o) {
-        if (fast == null || fast.next == null) return false;
+        @Override
+        public java.util.Spliterator<E> trySplit() {
+            if (index < 0) buildIndex();
+            bind();
+            int lo = index;
+            int hi = end;
+            if (fast == null || hi - lo < 2) return null;
+
+            // Find the fast nodes on either side of the midpoint by summing gaps
+            int mid = (lo + hi) >>> 1;
+            FastNode split = fast;
+            int splitIndex = fastIndex;
+            while (split.next != null && splitIndex < mid) {
+                splitIndex += split.next.gapFromPrev;
+                split = split.next;
+            }
+            int beforeIndex = splitIndex - split.gapFromPrev;
+            boolean afterValid = splitIndex > lo && splitIndex < hi;
+            boolean beforeValid = split.prev != null && beforeIndex > lo && beforeIndex < hi;
+            if (beforeValid && (!afterValid || mid - beforeIndex < splitIndex - mid)) {
+                split = split.prev;
+                splitIndex = beforeIndex;
+            } else if (!afterValid) {
+                return null;
+            }
+            if (split.target == null) return null;
+
+            // Hand out the prefix and keep the suffix starting at the split fast node
+            FastSpliterator prefix = new FastSpliterator(next, lo, splitIndex, fast, fastIndex,
+                    expectedModCount);
+            next = split.target;
+            index = splitIndex;
+            fast = split;
+            fastIndex = splitIndex;
+            return prefix;
+        }
 
-        // Check fast node's target first
-        if (fast.target != null && o.equals(fast.target.data)) {
-            removeNodeAndUpdateFast(fast.target, fast);
+        @Override
+        public boolean tryAdvance(java.util.function.Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            bind();
+            if (index >= end || next == null) return false;
+
+            E element = next.data;
+            next = next.next;
+            index++;
+            action.accept(element);
+            if (modCount != expectedModCount) throw new java.util.ConcurrentModificationException();
             return true;
         }
 
-        // Search through regular nodes in this chunk
-        ListNode current = fast.target != null ? fast.target.next : null;
-        ListNode searchEnd = fast.next.target;
-        if (current == null || searchEnd == null) return false;
-
-        int remaining = fast.next.gapFromPrev - 1;  // -1 because we already checked fast.target
-        while (remaining > 0 && current != searchEnd) {
-            if (o.equals(current.data)) {
-                removeNodeAndUpdateFast(current, fast);
-                return true;
+        @Override
+        public void forEachRemaining(java.util.function.Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            bind();
+            ListNode current = next;
+            for (int i = index; i < end && current != null; i++) {
+                action.accept(current.data);
+                current = current.next;
             }
-            current = current.next;
-            remaining--;
+            next = current;
+            index = end;
+            if (modCount != expectedModCount) throw new java.util.ConcurrentModificationException();
         }
-        return false;
-    }
 
-    private void removeNodeAndUpdateFast(ListNode node, FastNode nearestFast) {
-        // Update main list links
-        if (node.prev != null) node.prev.next = node.next;
-        if (node.next != null) node.next.prev = node.prev;
+        @Override
+        public long estimateSize() {
+            bind();
+            return end - index;
+        }
 
-        // Update fast layer if needed
-        if (node.fastLink != null) {
-            removeFastNode(node.fastLink);
-        } else if (nearestFast.next != null) {
-            nearestFast.next.gapFromPrev = Math.max(1, nearestFast.next.gapFromPrev - 1);
+        @Override
+        public int characteristics() {
+            return java.util.Spliterator.ORDERED | java.util.Spliterator.SIZED
+                    | java.util.Spliterator.SUBSIZED;
         }
+    }
 
-        size--;
-        checkAndRebalance();
+    /**
+     * Returns a view of the portion of this list between fromIndex (inclusive) and toIndex (exclusive).
+     * The view translates offsets and delegates to this list, so every access reuses the
+     * fast layer and the finger instead of walking from the head. Structural changes made
+     * outside the view invalidate it, so a deferred index is built before the view is created.
+     *
+     * @param fromIndex Low endpoint (inclusive) of the view
+     * @param toIndex   High endpoint (exclusive) of the view
+     * @return A view of the specified range within this list
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    @Override
+    public java.util.List<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IndexOutOfBoundsException();
+        buildIndex();
+        return new SubList(null, fromIndex, toIndex - fromIndex);
     }
 
     /**
-     * Gets the node at the specified index using optimized access strategy.
-     * This method implements a hybrid approach:
+     * Range view over the list. Every operation is translated to the enclosing list:
      * <ul>
-     *   <li>Direct access for endpoints (head/tail)</li>
-     *   <li>Fast layer traversal for internal nodes when beneficial</li>
-     *   <li>Bidirectional search based on target position</li>
-     *   <li>Fallback to normal traversal for small lists or when fast layer fails</li>
+     *   <li>{@code get}, {@code set}, {@code add} and {@code remove} shift the index by the offset</li>
+     *   <li>{@code clear} and {@code removeRange} unlink the whole segment at once</li>
+     *   <li>Iteration uses a single positioned list iterator of the enclosing list</li>
      * </ul>
      *
-     * @param index The index of the desired node
-     * @return The node at the specified index
-     * @throws IndexOutOfBoundsException if index is out of range
-     * @throws IllegalStateException if target node cannot be found
+     * Nested views keep a link to the view they were created from so that size changes
+     * propagate up the chain. The inherited {@code modCount} holds the enclosing list's
+     * modification count this view expects.
      */
-    private ListNode getNode(int index) {
-        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+    private class SubList extends java.util.AbstractList<E> {
+        /** View this view was created from, or null for a direct view of the list */
+        private final SubList parent;
 
-        // Direct access for endpoints
-        if (index == 0) return head;
-        if (index == size - 1) return tail;
+        /** Index in the enclosing list of the view's first element */
+        private final int offset;
 
-        // For small lists or when fast layer isn't beneficial
-        if (fastHead == null || fastTail == null || fastNodeCount <= 2 || size < getDynamicSkip()) {
-            return getNodeNormally(index);
+        /** Number of elements in the view */
+        private int size;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.modCount = SkipList.this.modCount;
         }
 
-        // Try fast layer traversal first
-        ListNode result = null;
-        if (index <= size / 2) {
-            // Start from head, move forward
-            ListNode current = head;
-            FastNode fast = fastHead;
-            int traversed = 0;
-
-            // Use fast layer to get close to target
-            while (fast != null && fast.next != null && fast.next != fastTail && current != null) {
-                int nextGap = fast.next.gapFromPrev;
-                if (traversed + nextGap > index) break;
-                traversed += nextGap;
-                fast = fast.next;
-                if (fast == null || fast.target == null) {
-                    return getNodeNormally(index); // Fallback if fast layer is corrupted
+        @Override
+        public E get(int index) {
+            checkIndex(index, size);
+            checkForComodification();
+            return SkipList.this.get(offset + index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkIndex(index, size);
+            checkForComodification();
+            return SkipList.this.set(offset + index, element);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkIndex(index, size + 1);
+            checkForComodification();
+            SkipList.this.add(offset + index, element);
+            updateSize(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            checkIndex(index, size);
+            checkForComodification();
+            E result = SkipList.this.remove(offset + index);
+            updateSize(-1);
+            return result;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            SkipList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSize(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(java.util.Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, java.util.Collection<? extends E> c) {
+            checkIndex(index, size + 1);
+            checkForComodification();
+            int before = SkipList.this.size;
+            if (!SkipList.this.addAll(offset + index, c)) return false;
+            updateSize(SkipList.this.size - before);
+            return true;
+        }
+
+        @Override
+        public java.util.Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public java.util.ListIterator<E> listIterator(int index) {
+            checkIndex(index, size + 1);
+            checkForComodification();
+            final java.util.ListIterator<E> it = SkipList.this.listIterator(offset + index);
+
+            return new java.util.ListIterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
                 }
-                current = fast.target;
-            }
 
-            // Walk the remaining distance
-            while (traversed < index && current != null) {
-                current = current.next;
-                traversed++;
-            }
-            result = current;
-        } else {
-            // Start from tail, move backward
-            ListNode current = tail;
-            FastNode fast = fastTail;
-            int traversed = size - 1;
-
-            // Use fast layer to get close to target
-            while (fast != null && fast.prev != null && fast.prev != fastHead && current != null) {
-                int prevGap = fast.gapFromPrev;
-                if (traversed - prevGap < index) break;
-                traversed -= prevGap;
-                fast = fast.prev;
-                if (fast == null || fast.target == null) {
-                    return getNodeNormally(index); // Fallback if fast layer is corrupted
+                @Override
+                public E next() {
+                    if (!hasNext()) throw new java.util.NoSuchElementException();
+                    return it.next();
                 }
-                current = fast.target;
-            }
 
-            // Walk the remaining distance
-            while (traversed > index && current != null) {
-                current = current.prev;
-                traversed--;
+                @Override
+                public boolean hasPrevious() {
+                    return previousIndex() >= 0;
+                }
+
+                @Override
+                public E previous() {
+                    if (!hasPrevious()) throw new java.util.NoSuchElementException();
+                    return it.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return it.nextIndex() - offset;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return it.previousIndex() - offset;
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    updateSize(-1);
+                }
+
+                @Override
+                public void set(E e) {
+                    it.set(e);
+                }
+
+                @Override
+                public void add(E e) {
+                    it.add(e);
+                    updateSize(1);
+                }
+            };
+        }
+
+        @Override
+        public java.util.List<E> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IndexOutOfBoundsException();
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        private void checkIndex(int index, int bound) {
+            if (index < 0 || index >= bound) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
             }
-            result = current;
         }
 
-        // Fallback to normal traversal if fast layer failed
-        if (result == null) {
-            result = getNodeNormally(index);
+        private void checkForComodification() {
+            if (SkipList.this.modCount != this.modCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
         }
 
-        return result;
+        /** Applies a size change to this view and every view it was created from. */
+        private void updateSize(int delta) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += delta;
+                view.modCount = SkipList.this.modCount;
+            }
+        }
     }
 
     /**
-     * Gets a node by index using standard doubly-linked list traversal.
-     * This method is used as a fallback when:
+     * Sorts this list by sorting its elements in an array and writing them back in order.
+     * The node skeleton is left intact:
      * <ul>
-     *   <li>The list is too small for fast layer to be beneficial</li>
-     *   <li>The fast layer traversal fails</li>
-     *   <li>The fast layer is not properly initialized</li>
+     *   <li>No nodes are allocated, unlinked or relinked</li>
+     *   <li>The fast layer and its gaps stay valid as they are</li>
+     *   <li>Lists of at least PARALLEL_SORT_THRESHOLD elements use a parallel sort</li>
      * </ul>
+     * The sort is stable, and a null comparator means natural ordering.
      *
-     * @param index The index of the desired node
-     * @return The node at the specified index
-     * @throws IndexOutOfBoundsException if index is out of range
+     * @param c Comparator used to compare elements, or null for natural ordering
+     * @throws ClassCastException if elements are not mutually comparable
+     * @throws java.util.ConcurrentModificationException if the comparator modifies the list
      */
-    private ListNode getNodeNormally(int index) {
-        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
-
-        ListNode current;
-        if (index <= size / 2) {
-            // Traverse forward from head
-            current = head;
-            for (int i = 0; i < index && current != null; i++) {
-                current = current.next;
-            }
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(java.util.Comparator<? super E> c) {
+        int expectedModCount = modCount;
+        E[] elements = (E[]) toArray();
+        if (elements.length >= PARALLEL_SORT_THRESHOLD) {
+            java.util.Arrays.parallelSort(elements, c);
         } else {
-            // Traverse backward from tail
-            current = tail;
-            for (int i = size - 1; i > index && current != null; i--) {
-                current = current.prev;
-            }
+            java.util.Arrays.sort(elements, c);
         }
-        return current;
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
+        }
+        writeBack(elements);
+        modCount++;
     }
 
     /**
-     * Rebalances the fast layer to maintain optimal skip distances.
-     * This operation:
-     * <ul>
-     *   <li>Adjusts skip distance if density is suboptimal</li>
-     *   <li>Resets fast layer to just sentinels</li>
-     *   <li>Clears all fast links in main list</li>
-     *   <li>Rebuilds fast layer with optimal spacing</li>
-     *   <li>Updates tail sentinel connections</li>
-     * </ul>
+     * Randomly permutes this list in O(n) using the given source of randomness.
+     * Like {@link #sort}, the elements are shuffled in an array and written back,
+     * so the node skeleton and the fast layer are left intact.
      *
-     * The fast layer is rebuilt with nodes placed every getDynamicSkip() positions,
-     * ensuring O(sqrt(n)) average case access time.
-     */
-    private void rebalanceFastLayer() {
-        if (fastHead == null || fastTail == null || head == null) return;
-
-        // Adjust skip distance if density is suboptimal
-        if (fastNodeCount < Math.sqrt(size) / 2) {
-            currentSkipDistance = Math.max(MIN_SKIP, currentSkipDistance / 2);
-        }
-
-        // Calculate maximum allowed fast nodes (including sentinels)
-        int maxFastNodes = Math.max(2, size / MIN_SKIP);
-
-        if (fastNodeCount > maxFastNodes) {
-            // Need to remove excess nodes
-            int nodesToKeep = maxFastNodes;
-            int currentCount = 0;
-            FastNode current = fastHead;
-
-            // Keep first 'nodesToKeep' nodes, adjusting their gaps
-            while (current != null && currentCount < nodesToKeep) {
-                if (current.next != null && currentCount < nodesToKeep - 1) {
-                    // Calculate new gap to next kept node
-                    int newGap = 0;
-                    FastNode temp = current.next;
-                    while (temp != null && currentCount + 1 < nodesToKeep - 1) {
-                        newGap += temp.gapFromPrev;
-                        // Clear links bidirectionally
-                        if (temp.target != null) {
-                            temp.target.fastLink = null;
-                            temp.target = null;  // Also clear the reverse link
-                        }
-                        temp = temp.next;
-                    }
-                    if (temp != null) {
-                        current.next = temp;
-                        temp.prev = current;
-                        temp.gapFromPrev = Math.max(1, newGap);
-                    }
-                }
-                current = current.next;
-                currentCount++;
-            }
-
-            // Clear remaining nodes' links
-            while (current != null && current != fastTail) {
-                if (current.target != null) {
-                    current.target.fastLink = null;
-                    current.target = null;  // Also clear the reverse link
-                }
-                current = current.next;
-            }
-        } else {
-            // Just reset to sentinels, clearing fast links by traversing fast layer
-            FastNode current = fastHead.next;
-            while (current != null && current != fastTail) {
-                if (current.target != null) {
-                    current.target.fastLink = null;
-                    current.target = null;  // Also clear the reverse link
-                }
-                current = current.next;
-            }
-
-            fastHead.next = fastTail;
-            fastTail.prev = fastHead;
-            fastNodeCount = 2;
-
-            // Rebuild with optimal spacing
-            int skip = getDynamicSkip();
-            int counter = 0;
-            ListNode mainCurrent = head;
-            int gap = 0;
-            while (mainCurrent != null && mainCurrent != tail) {
-                gap++;
-                if (counter > 0 && counter % skip == 0 && mainCurrent.next != null) {
-                    appendFastNodeToLast(mainCurrent, gap);
-                    gap = 0;
-                }
-                mainCurrent = mainCurrent.next;
-                counter++;
-            }
+     * @param rnd Source of randomness
+     * @throws NullPointerException if rnd is null
+     */
+    public void shuffle(java.util.Random rnd) {
+        java.util.Objects.requireNonNull(rnd);
+        Object[] elements = toArray();
+        for (int i = elements.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            Object swap = elements[i];
+            elements[i] = elements[j];
+            elements[j] = swap;
         }
+        writeBack(elements);
+        modCount++;
+    }
 
-        updateTailSentinel();
+    /**
+     * Stores the array's elements into the existing nodes, in order.
+     *
+     * @param elements Exactly size elements
+     */
+    @SuppressWarnings("unchecked")
+    private void writeBack(Object[] elements) {
+        int i = 0;
+        for (ListNode node = head; node != null; node = node.next) {
+            node.data = (E) elements[i++];
+        }
     }
 
     /**
-     * Removes all elements from the list and resets all internal state.
-     * This method ensures proper cleanup by:
-     * <ul>
-     *   <li>Clearing all node references</li>
-     *   <li>Resetting fast layer sentinels</li>
-     *   <li>Resetting all counters and metrics</li>
-     *   <li>Restoring initial skip distance</li>
-     * </ul>
+     * Returns an array containing all elements of this list in proper sequence.
+     * The elements are copied with a single pass over the main list.
+     *
+     * @return A new array containing the elements of this list
      */
     @Override
-    public void clear() {
-        head = tail = null;
-        fastHead = fastTail = null;
-        size = 0;
-        pendingGap = 0;
-        operationsSinceRebalance = 0;
-        currentSkipDistance = MIN_SKIP;
-        fastNodeCount = 0;
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int i = 0;
+        for (ListNode node = head; node != null; node = node.next) {
+            result[i++] = node.data;
+        }
+        return result;
     }
 
     /**
-     * Returns the number of elements in this list.
+     * Returns an array containing all elements of this list in proper sequence,
+     * using the given array if it is large enough.
+     * If the array has room to spare, the element following the last copied one is set to null.
      *
-     * @return The number of elements in this list
+     * @param a   Array to fill, or whose runtime type is used for a new array
+     * @param <T> Component type of the array
+     * @return An array containing the elements of this list
+     * @throws ArrayStoreException if an element is not assignable to the array's component type
+     * @throws NullPointerException if the array is null
      */
     @Override
-    public int size() {
-        return size;
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        if (a.length < size) {
+            a = (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+        }
+        Object[] result = a;
+        int i = 0;
+        for (ListNode node = head; node != null; node = node.next) {
+            result[i++] = node.data;
+        }
+        if (a.length > size) a[size] = null;
+        return a;
     }
-
-    // Unused java.util.List methods
-    @Override public boolean isEmpty() { throw new UnsupportedOperationException(); }
-    @Override public boolean contains(Object o) { throw new UnsupportedOperationException(); }
-    @Override public java.util.Iterator<E> iterator() { throw new UnsupportedOperationException(); }
-    @Override public Object[] toArray() { throw new UnsupportedOperationException(); }
-    @Override public <T> T[] toArray(T[] a) { throw new UnsupportedOperationException(); }
-    @Override public boolean containsAll(java.util.Collection<?> c) { throw new UnsupportedOperationException(); }
-    @Override public boolean addAll(java.util.Collection<? extends E> c) { throw new UnsupportedOperationException(); }
-    @Override public boolean addAll(int index, java.util.Collection<? extends E> c) { throw new UnsupportedOperationException(); }
-    @Override public boolean removeAll(java.util.Collection<?> c) { throw new UnsupportedOperationException(); }
-    @Override public boolean retainAll(java.util.Collection<?> c) { throw new UnsupportedOperationException(); }
-    @Override public E get(int index) { throw new UnsupportedOperationException(); }
-    @Override public E set(int index, E element) { throw new UnsupportedOperationException(); }
-    @Override public int indexOf(Object o) { throw new UnsupportedOperationException(); }
-    @Override public int lastIndexOf(Object o) { throw new UnsupportedOperationException(); }
-    @Override public java.util.ListIterator<E> listIterator() { throw new UnsupportedOperationException(); }
-    @Override public java.util.ListIterator<E> listIterator(int index) { throw new UnsupportedOperationException(); }
-    @Override public java.util.List<E> subList(int fromIndex, int toIndex) { throw new UnsupportedOperationException(); }
-}
\ No newline at end of file
+}
@@ -0,0 +1,1048 @@
+package SkipList;
+/**
+ * An unrolled variant of {@link SkipList} whose main layer stores elements in small arrays.
+ * Each main layer node (a chunk) holds up to CHUNK_CAPACITY elements and a fill count,
+ * so sequential scans and the final walk after a fast layer hop mostly stay within
+ * contiguous memory instead of chasing one node per element.
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *   <li><b>Main Layer:</b> A doubly-linked list of chunks, each an array of elements with a fill count</li>
+ *   <li><b>Fast Layer:</b> A sparse layer of nodes pointing to chunks at regular intervals</li>
+ *   <li><b>Gap-Based Indexing:</b> Fast nodes record the number of elements since the previous fast node</li>
+ *   <li><b>Split and Merge:</b> Full chunks split in half on insert; sparse chunks merge with a neighbour on remove</li>
+ *   <li><b>Local Rebalancing:</b> A fast layer segment that grows past twice the skip distance is re-laid
+ *       at it, and one that shrinks below half of it is merged into the next</li>
+ *   <li><b>Incremental Re-laying:</b> Once the skip distance has doubled or halved, mutating calls
+ *       walk the fast layer a few chunks at a time to bring every segment in line</li>
+ * </ul>
+ *
+ * <h2>Performance Characteristics:</h2>
+ * <ul>
+ *   <li>{@code add(E)}: O(1) amortized - Appends into the tail chunk</li>
+ *   <li>{@code get(int)}, {@code set(int, E)}: O(sqrt(n / B)) - Fast layer hop, chunk walk, array access</li>
+ *   <li>{@code add(int, E)}, {@code remove(int)}: O(sqrt(n / B) + B) - Positioning plus a shift within one chunk</li>
+ *   <li>{@code addAll(int, Collection)}: O(sqrt(n / B) + B + k) - One positioning pass and a splice of new chunks</li>
+ *   <li>{@code removeIf}: O(n) - One sweep compacting the chunks and one fast layer rebuild</li>
+ *   <li>Iteration: O(n) with one pointer hop per chunk rather than per element, in either direction</li>
+ * </ul>
+ * Here B is CHUNK_CAPACITY.
+ *
+ * <h2>Implementation Notes:</h2>
+ * <ul>
+ *   <li>A non-empty list always has at least one chunk; only the sole chunk of a list may be empty</li>
+ *   <li>The fast head sentinel always points at the first chunk with gap 0</li>
+ *   <li>No gap covers the elements from the last fast node's chunk on; appends promote a new
+ *       tail chunk once they reach the skip distance</li>
+ *   <li>Splits never move elements across a fast node, so they leave every gap unchanged</li>
+ * </ul>
+ *
+ * @param <E> the type of elements in this list
+ */
+public class UnrolledSkipList<E> extends java.util.AbstractList<E> {
+    /** First chunk of the main layer */
+    private Chunk head;
+
+    /** Last chunk of the main layer */
+    private Chunk tail;
+
+    /** Current size of the list */
+    private int size = 0;
+
+    /** Number of chunks in the main layer */
+    private int chunkCount = 0;
+
+    /** Number of nodes in the fast layer, including the head sentinel */
+    private int fastNodeCount = 0;
+
+    /** Fast layer head sentinel, always pointing at the first chunk */
+    private FastNode fastHead;
+
+    /** Last node of the fast layer */
+    private FastNode lastFast;
+
+    /** Index of the first element of the last fast node's chunk */
+    private int lastFastStart;
+
+    /** Skip distance the fast layer was last laid or re-laid at */
+    private int laidSkip;
+
+    /** Fast node before the next segment an incremental re-lay looks at, or null when none is running */
+    private FastNode relayCursor;
+
+    /** Chunk found by the last call to locate() */
+    private Chunk cursorChunk;
+
+    /** Index of the first element of the cursor chunk */
+    private int cursorStart;
+
+    /** Last fast node at or before the cursor chunk */
+    private FastNode cursorFast;
+
+    /** Maximum number of elements per chunk */
+    private static final int CHUNK_CAPACITY = 64;
+
+    /** Chunks holding fewer elements than this are merged with a neighbour */
+    private static final int MERGE_THRESHOLD = CHUNK_CAPACITY / 4;
+
+    /** Fill level used when building chunks in bulk, leaving room for inserts */
+    private static final int BULK_FILL = CHUNK_CAPACITY * 3 / 4;
+
+    /** Maximum number of chunks an incremental re-lay walks per mutating call */
+    private static final int RELAY_BUDGET = 64;
+
+    /**
+     * Node in the main layer: an array of elements with a fill count.
+     */
+    private class Chunk {
+        /** Elements stored in this chunk; slots at and above count are null */
+        final Object[] items = new Object[CHUNK_CAPACITY];
+
+        /** Number of elements stored in this chunk */
+        int count;
+
+        /** Neighbouring chunks */
+        Chunk prev, next;
+
+        /** Fast node pointing at this chunk, if any */
+        FastNode fastLink;
+    }
+
+    /**
+     * Node in the fast-access layer pointing at a chunk.
+     * The gap counts elements, not chunks, so positioning sums gaps exactly as in {@link SkipList}.
+     */
+    private class FastNode {
+        /** Chunk this fast node points at */
+        Chunk target;
+
+        /** Neighbouring fast nodes */
+        FastNode prev, next;
+
+        /** Number of elements between the previous fast node's chunk start and this one's */
+        int gapFromPrev;
+
+        /**
+         * Constructs a new fast layer node.
+         *
+         * @param target      The chunk this fast node points at
+         * @param prev        Previous fast layer node
+         * @param gapFromPrev Number of elements since the previous fast node's chunk start
+         */
+        FastNode(Chunk target, FastNode prev, int gapFromPrev) {
+            this.target = target;
+            this.prev = prev;
+            this.gapFromPrev = gapFromPrev;
+            target.fastLink = this;
+        }
+    }
+
+    /**
+     * Constructs an empty list.
+     */
+    public UnrolledSkipList() {
+    }
+
+    /**
+     * Constructs a list containing the elements of the collection, in iteration order.
+     * Chunks are filled to three quarters so that early inserts do not split immediately,
+     * and the fast layer is built once at the end.
+     *
+     * @param c Collection whose elements are placed into this list
+     * @throws NullPointerException if the collection is null
+     */
+    public UnrolledSkipList(java.util.Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        for (int i = 0; i < elements.length; ) {
+            Chunk chunk = appendChunk();
+            int n = Math.min(BULK_FILL, elements.length - i);
+            System.arraycopy(elements, i, chunk.items, 0, n);
+            chunk.count = n;
+            i += n;
+        }
+        size = elements.length;
+        rebuildFastLayer();
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return The number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified position.
+     *
+     * @param index Index of the element to return
+     * @return The element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        locate(index);
+        return (E) cursorChunk.items[index - cursorStart];
+    }
+
+    /**
+     * Replaces the element at the specified position in place.
+     * This is not a structural modification.
+     *
+     * @param index   Index of the element to replace
+     * @param element Element to be stored at the specified position
+     * @return The element previously at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        locate(index);
+        int offset = index - cursorStart;
+        E previous = (E) cursorChunk.items[offset];
+        cursorChunk.items[offset] = element;
+        return previous;
+    }
+
+    /**
+     * Appends an element into the tail chunk, starting a new chunk when it is full.
+     * No gap covers the tail chunk, so none changes; a new chunk is promoted once the
+     * elements since the last fast node reach the skip distance.
+     *
+     * @param e Element to append to the list
+     * @return true (as specified by Collection.add)
+     */
+    @Override
+    public boolean add(E e) {
+        if (tail == null || tail.count == CHUNK_CAPACITY) {
+            appendChunk();
+            if (fastHead == null) {
+                startFastLayer();
+            } else {
+                if (size - lastFastStart >= skipGap()) insertFastNode(lastFast, tail, size - lastFastStart);
+                relayStep();
+            }
+        }
+        tail.items[tail.count++] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the specified position.
+     * This method:
+     * <ul>
+     *   <li>Positions once through the fast layer and the chunk chain</li>
+     *   <li>Splits the target chunk in half first if it is full</li>
+     *   <li>Shifts the rest of the chunk up by one</li>
+     *   <li>Increments the gap of the first fast node after the chunk</li>
+     *   <li>Re-lays that segment locally if the insert made it too long</li>
+     * </ul>
+     *
+     * @param index Index at which to insert the element
+     * @param element Element to insert
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        locate(index);
+        Chunk chunk = cursorChunk;
+        int offset = index - cursorStart;
+        FastNode updateFast = cursorFast.next;
+
+        boolean split = chunk.count == CHUNK_CAPACITY;
+        if (split) {
+            splitChunk(chunk);
+            if (offset > chunk.count) {
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+        }
+
+        System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+        chunk.items[offset] = element;
+        chunk.count++;
+        size++;
+        modCount++;
+
+        if (updateFast != null) {
+            updateFast.gapFromPrev++;
+            lastFastStart++;
+        }
+        balanceSegment(updateFast);
+        relayStep();
+    }
+
+    /**
+     * Appends all elements of the collection in one splice.
+     *
+     * @param c Collection whose elements are appended
+     * @return true if the list changed
+     * @see #addAll(int, java.util.Collection)
+     */
+    @Override
+    public boolean addAll(java.util.Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Inserts all elements of the collection at the specified position in one splice.
+     * This method avoids per-element insertion by:
+     * <ul>
+     *   <li>Positioning once and cutting the target chunk at the insertion point</li>
+     *   <li>Filling the free part of that chunk and new chunks to three quarters with the elements</li>
+     *   <li>Putting the cut-off rest of the chunk after them, in the last new chunk if it fits</li>
+     *   <li>Adding the count to one gap and re-laying only that segment</li>
+     * </ul>
+     *
+     * Inserting k elements costs O(sqrt(n / B) + B + k) instead of k single inserts.
+     *
+     * @param index Index at which to insert the first element
+     * @param c Collection whose elements are inserted
+     * @return true if the list changed
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public boolean addAll(int index, java.util.Collection<? extends E> c) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        Object[] elements = c.toArray();
+        int count = elements.length;
+        if (count == 0) return false;
+
+        if (head == null) {
+            appendChunk();
+            startFastLayer();
+        }
+        locate(index);
+        Chunk chunk = cursorChunk;
+        int offset = index - cursorStart;
+        FastNode updateFast = cursorFast.next;
+
+        // Cut the chunk at the insertion point
+        Object[] rest = java.util.Arrays.copyOfRange(chunk.items, offset, chunk.count);
+        java.util.Arrays.fill(chunk.items, offset, chunk.count, null);
+        chunk.count = offset;
+
+        int i = 0;
+        Chunk last = chunk;
+        while (i < count) {
+            if (last.count >= BULK_FILL) last = insertChunk(last);
+            int n = Math.min(BULK_FILL - last.count, count - i);
+            System.arraycopy(elements, i, last.items, last.count, n);
+            last.count += n;
+            i += n;
+        }
+        if (rest.length > 0) {
+            if (last.count + rest.length > CHUNK_CAPACITY) last = insertChunk(last);
+            System.arraycopy(rest, 0, last.items, last.count, rest.length);
+            last.count += rest.length;
+        }
+
+        size += count;
+        modCount++;
+        if (updateFast != null) {
+            updateFast.gapFromPrev += count;
+            lastFastStart += count;
+        }
+        balanceSegment(updateFast);
+        relayStep();
+        return true;
+    }
+
+    /**
+     * Removes the element at the specified position.
+     * The rest of the chunk shifts down by one and the gap of the first fast node
+     * after the chunk is decremented. A chunk left under MERGE_THRESHOLD elements
+     * is merged with a neighbour when they fit in one chunk, and the segment is then
+     * balanced locally.
+     *
+     * @param index Index of element to remove
+     * @return The removed element
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        locate(index);
+        Chunk chunk = cursorChunk;
+        int offset = index - cursorStart;
+        E removed = (E) chunk.items[offset];
+
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+        chunk.items[--chunk.count] = null;
+        size--;
+        modCount++;
+
+        FastNode updateFast = cursorFast.next;
+        FastNode following = updateFast != null ? updateFast.next : null;
+        if (updateFast != null) {
+            updateFast.gapFromPrev--;
+            lastFastStart--;
+        }
+        if (chunk.count < MERGE_THRESHOLD) mergeChunk(chunk);
+
+        // A merge may have dropped the fast node ending the segment into the next one
+        balanceSegment(updateFast != null && updateFast.target == null ? following : updateFast);
+        relayStep();
+        return removed;
+    }
+
+    /**
+     * Removes every element matching the filter in a single sweep of the chunks.
+     * The work is split into linear passes:
+     * <ul>
+     *   <li>The filter is evaluated for every element first, so an exception thrown
+     *       by the filter leaves the list untouched</li>
+     *   <li>One sweep then compacts each chunk in place and folds it into the previous
+     *       chunk when either falls under MERGE_THRESHOLD and they fit in one chunk</li>
+     *   <li>The fast layer is rebuilt once at the end</li>
+     * </ul>
+     * No per-element positioning or shifting happens, so the whole operation is O(n).
+     *
+     * @param filter Predicate that returns true for elements to remove
+     * @return true if any element was removed
+     * @throws NullPointerException if the filter is null
+     * @throws java.util.ConcurrentModificationException if the filter modifies the list
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(java.util.function.Predicate<? super E> filter) {
+        java.util.Objects.requireNonNull(filter);
+        if (size == 0) return false;
+
+        // Evaluate the filter before touching the structure
+        int expectedModCount = modCount;
+        java.util.BitSet doomed = new java.util.BitSet(size);
+        int index = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++, index++) {
+                if (filter.test((E) chunk.items[i])) doomed.set(index);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
+        }
+
+        int removed = doomed.cardinality();
+        if (removed == 0) return false;
+        if (removed == size) {
+            clear();
+            return true;
+        }
+
+        index = 0;
+        Chunk chunk = head;
+        while (chunk != null) {
+            Chunk next = chunk.next;
+            int kept = 0;
+            for (int i = 0; i < chunk.count; i++, index++) {
+                if (!doomed.get(index)) chunk.items[kept++] = chunk.items[i];
+            }
+            java.util.Arrays.fill(chunk.items, kept, chunk.count, null);
+            chunk.count = kept;
+
+            // Fold an emptied or sparse chunk into its compacted predecessor; an emptied
+            // head chunk takes in the first survivors this way
+            Chunk prev = chunk.prev;
+            if (prev != null && prev.count + kept <= CHUNK_CAPACITY
+                    && (kept < MERGE_THRESHOLD || prev.count < MERGE_THRESHOLD)) {
+                System.arraycopy(chunk.items, 0, prev.items, prev.count, kept);
+                prev.count += kept;
+                prev.next = next;
+                if (next != null) next.prev = prev;
+                else tail = prev;
+                chunk.prev = chunk.next = null;
+                chunkCount--;
+            }
+            chunk = next;
+        }
+
+        size -= removed;
+        modCount++;
+        rebuildFastLayer();
+        return true;
+    }
+
+    /**
+     * Removes all elements that are contained in the specified collection.
+     * Runs as a single {@link #removeIf} sweep.
+     *
+     * @param c Collection of elements to remove
+     * @return true if the list changed
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean removeAll(java.util.Collection<?> c) {
+        java.util.Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Retains only the elements that are contained in the specified collection.
+     * Runs as a single {@link #removeIf} sweep.
+     *
+     * @param c Collection of elements to keep
+     * @return true if the list changed
+     * @throws NullPointerException if the collection is null
+     */
+    @Override
+    public boolean retainAll(java.util.Collection<?> c) {
+        java.util.Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        fastHead = lastFast = null;
+        lastFastStart = 0;
+        relayCursor = null;
+        cursorChunk = null;
+        cursorFast = null;
+        size = 0;
+        chunkCount = 0;
+        fastNodeCount = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator that walks the chunk arrays directly.
+     *
+     * @return An iterator over the elements in this list
+     */
+    @Override
+    public java.util.Iterator<E> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator that walks the chunk arrays directly.
+     *
+     * @return A list iterator starting at the first element
+     */
+    @Override
+    public java.util.ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Returns a fail-fast list iterator that positions once and then walks the chunk arrays directly.
+     *
+     * @param index Index of the first element to be returned by {@code next}
+     * @return A list iterator starting at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public java.util.ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        return new ListItr(index);
+    }
+
+    /**
+     * Performs the action for each element in order, one chunk array at a time.
+     *
+     * @param action Action to perform on each element
+     * @throws NullPointerException if the action is null
+     * @throws java.util.ConcurrentModificationException if the action modifies the list structurally
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(java.util.function.Consumer<? super E> action) {
+        java.util.Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (Chunk chunk = head; chunk != null && modCount == expectedModCount; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                action.accept((E) chunk.items[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new java.util.ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns an array containing all elements of this list in proper sequence,
+     * copied one chunk at a time.
+     *
+     * @return A new array containing the elements of this list
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int i = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, 0, result, i, chunk.count);
+            i += chunk.count;
+        }
+        return result;
+    }
+
+    /**
+     * Positions on the chunk holding an index, leaving the chunk, the index of its first
+     * element and its covering fast node in the cursor fields.
+     * The fast layer is hopped while the next fast node starts at or before the index,
+     * then chunks are walked; an index equal to size lands at the end of the tail chunk.
+     *
+     * @param index The index to position on (0 <= index <= size)
+     */
+    private void locate(int index) {
+        FastNode fast = fastHead;
+        int start = 0;
+        while (fast.next != null && start + fast.next.gapFromPrev <= index) {
+            start += fast.next.gapFromPrev;
+            fast = fast.next;
+        }
+
+        Chunk chunk = fast.target;
+        while (index - start >= chunk.count && chunk.next != null) {
+            start += chunk.count;
+            chunk = chunk.next;
+        }
+
+        cursorChunk = chunk;
+        cursorStart = start;
+        cursorFast = fast;
+    }
+
+    /**
+     * Creates an empty chunk after the tail chunk.
+     *
+     * @return The new tail chunk
+     */
+    private Chunk appendChunk() {
+        Chunk chunk = new Chunk();
+        chunk.prev = tail;
+        if (tail != null) tail.next = chunk;
+        else head = chunk;
+        tail = chunk;
+        chunkCount++;
+        return chunk;
+    }
+
+    /**
+     * Creates an empty chunk linked right after a chunk.
+     *
+     * @param chunk The chunk to link the new one after
+     * @return The new chunk
+     */
+    private Chunk insertChunk(Chunk chunk) {
+        Chunk right = new Chunk();
+        right.prev = chunk;
+        right.next = chunk.next;
+        if (chunk.next != null) chunk.next.prev = right;
+        else tail = right;
+        chunk.next = right;
+        chunkCount++;
+        return right;
+    }
+
+    /**
+     * Moves the upper half of a full chunk into a new chunk linked right after it.
+     * The new chunk carries no fast node and no element changes position, so every gap stays valid.
+     *
+     * @param chunk The chunk to split
+     */
+    private void splitChunk(Chunk chunk) {
+        Chunk right = insertChunk(chunk);
+        int keep = chunk.count / 2;
+        int moved = chunk.count - keep;
+        System.arraycopy(chunk.items, keep, right.items, 0, moved);
+        java.util.Arrays.fill(chunk.items, keep, chunk.count, null);
+        chunk.count = keep;
+        right.count = moved;
+    }
+
+    /**
+     * Merges a sparse chunk with its next neighbour, or with its previous one,
+     * when their elements fit into a single chunk. The sole chunk of a list is kept
+     * even when empty.
+     *
+     * @param chunk The chunk that fell under MERGE_THRESHOLD
+     */
+    private void mergeChunk(Chunk chunk) {
+        if (chunk.next != null && chunk.count + chunk.next.count <= CHUNK_CAPACITY) {
+            absorb(chunk, chunk.next);
+        } else if (chunk.prev != null && chunk.prev.count + chunk.count <= CHUNK_CAPACITY) {
+            absorb(chunk.prev, chunk);
+        }
+    }
+
+    /**
+     * Appends the elements of a chunk to its previous neighbour and unlinks it.
+     * If the absorbed chunk carried a fast node, that node is removed and its gap
+     * merged into the next fast node; no element changes position.
+     *
+     * @param left  The chunk that receives the elements
+     * @param right The chunk directly after left, which is unlinked
+     */
+    private void absorb(Chunk left, Chunk right) {
+        System.arraycopy(right.items, 0, left.items, left.count, right.count);
+        left.count += right.count;
+
+        left.next = right.next;
+        if (right.next != null) right.next.prev = left;
+        else tail = left;
+        chunkCount--;
+
+        if (right.fastLink != null) removeFastNode(right.fastLink);
+        right.prev = right.next = null;
+    }
+
+    /**
+     * Returns the number of elements to aim for between fast nodes: those of sqrt(chunks)
+     * chunks at the current average fill, and at least one full chunk. This matches the
+     * spacing {@link #rebuildFastLayer()} lays.
+     *
+     * @return The skip distance in elements
+     */
+    private int skipGap() {
+        return Math.max(CHUNK_CAPACITY, (int) (size / Math.sqrt(Math.max(1, chunkCount))));
+    }
+
+    /**
+     * Creates the fast head sentinel over the first chunk of a list that had none.
+     */
+    private void startFastLayer() {
+        fastHead = lastFast = new FastNode(head, null, 0);
+        lastFastStart = 0;
+        fastNodeCount = 1;
+        relayCursor = null;
+        laidSkip = skipGap();
+    }
+
+    /**
+     * Places a new fast node on a chunk inside the segment following a fast node,
+     * carving its gap out of the next fast node's gap.
+     *
+     * @param left  The fast node starting the segment
+     * @param chunk The chunk to promote, gap elements after the start of left's chunk
+     * @param gap   Number of elements from the start of left's chunk to the chunk
+     * @return The new fast node
+     */
+    private FastNode insertFastNode(FastNode left, Chunk chunk, int gap) {
+        FastNode right = left.next;
+        FastNode fast = new FastNode(chunk, left, gap);
+        fast.next = right;
+        left.next = fast;
+        if (right != null) {
+            right.prev = fast;
+            right.gapFromPrev -= gap;
+        } else {
+            lastFast = fast;
+            lastFastStart += gap;
+        }
+        fastNodeCount++;
+        return fast;
+    }
+
+    /**
+     * Unlinks an interior fast node, merging its gap into the next one.
+     *
+     * @param fast The fast node to remove (never the head sentinel)
+     */
+    private void removeFastNode(FastNode fast) {
+        FastNode left = fast.prev;
+        left.next = fast.next;
+        if (fast.next != null) {
+            fast.next.prev = left;
+            fast.next.gapFromPrev += fast.gapFromPrev;
+        } else {
+            lastFast = left;
+            lastFastStart -= fast.gapFromPrev;
+        }
+        fast.target.fastLink = null;
+        fast.target = null;
+        fastNodeCount--;
+        if (relayCursor == fast) relayCursor = left;
+    }
+
+    /**
+     * Keeps the segment ending at a fast node within a factor of two of the skip distance,
+     * touching only that segment:
+     * <ul>
+     *   <li>A segment longer than twice the skip distance is re-laid at the skip distance</li>
+     *   <li>An interior segment shorter than half of it is merged into the next one,
+     *       which is then balanced in turn</li>
+     * </ul>
+     *
+     * @param end The fast node ending the segment, or null for the elements after the last fast node
+     */
+    private void balanceSegment(FastNode end) {
+        if (fastHead == null) return;
+        int skip = skipGap();
+        int gap = end != null ? end.gapFromPrev : size - lastFastStart;
+        if (gap > 2 * skip) {
+            relaySegment(end != null ? end.prev : lastFast, end, gap, skip);
+        } else if (end != null && gap < skip / 2) {
+            FastNode next = end.next;
+            removeFastNode(end);
+            balanceSegment(next);
+        }
+    }
+
+    /**
+     * Promotes chunks inside one segment so that its pieces hold about the skip distance
+     * each, walking only that segment's chunks. The last piece is kept at half the skip
+     * distance or more.
+     *
+     * @param left The fast node starting the segment
+     * @param end  The fast node ending the segment, or null for the elements after the last fast node
+     * @param gap  Number of elements in the segment
+     * @param skip The skip distance
+     */
+    private void relaySegment(FastNode left, FastNode end, int gap, int skip) {
+        Chunk stop = end != null ? end.target : null;
+        int run = 0;
+        for (Chunk chunk = left.target; chunk.next != stop; ) {
+            run += chunk.count;
+            chunk = chunk.next;
+            if (run >= skip && gap - run >= skip / 2) {
+                left = insertFastNode(left, chunk, run);
+                gap -= run;
+                run = 0;
+            }
+        }
+    }
+
+    /**
+     * Re-lays the fast layer incrementally once the skip distance has drifted to half or twice
+     * the spacing it was last laid at, as happens when a list grows or shrinks a lot. Each
+     * mutating call moves a cursor along the fast layer for at most RELAY_BUDGET chunks:
+     * <ul>
+     *   <li>A segment above twice the skip distance gets a fast node about one skip in,
+     *       and the rest is looked at again</li>
+     *   <li>A segment under the skip distance is merged into the next one when the two
+     *       together stay within twice it</li>
+     *   <li>Any other segment is passed over</li>
+     * </ul>
+     * Merging against the skip distance rather than half of it lets a layer laid at half
+     * the spacing, as appends leave behind, close up to it. Segments ahead of the cursor
+     * keep their old gaps, which stay valid, until it reaches them, so no single call pays
+     * for the whole list.
+     */
+    private void relayStep() {
+        if (fastHead == null) return;
+        int skip = skipGap();
+        if (relayCursor == null) {
+            if (skip < 2 * laidSkip && 2 * skip > laidSkip) return;
+            relayCursor = fastHead;
+            laidSkip = skip;
+        }
+
+        int budget = RELAY_BUDGET;
+        while (budget > 0) {
+            FastNode next = relayCursor.next;
+            int gap = next != null ? next.gapFromPrev : size - lastFastStart;
+            if (gap > 2 * skip) {
+                Chunk chunk = relayCursor.target;
+                int run = 0;
+                while (run < skip) {
+                    run += chunk.count;
+                    chunk = chunk.next;
+                    budget--;
+                }
+                relayCursor = insertFastNode(relayCursor, chunk, run);
+            } else if (next == null) {
+                relayCursor = null;
+                return;
+            } else if (gap < skip && gap + followingGap(next) <= 2 * skip) {
+                removeFastNode(next);
+                budget--;
+            } else {
+                relayCursor = next;
+                budget--;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the segment after a fast node's chunk start.
+     *
+     * @param fast A fast node
+     * @return The gap of the next fast node, or the elements after the last fast node's chunk start
+     */
+    private int followingGap(FastNode fast) {
+        return fast.next != null ? fast.next.gapFromPrev : size - lastFastStart;
+    }
+
+    /**
+     * Rebuilds the fast layer with a fast node on every sqrt(chunks)-th chunk,
+     * each recording the number of elements since the previous one. Used by
+     * bulk operations that rewrite every chunk anyway.
+     */
+    private void rebuildFastLayer() {
+        cursorChunk = null;
+        cursorFast = null;
+        if (head == null) {
+            fastHead = lastFast = null;
+            lastFastStart = 0;
+            fastNodeCount = 0;
+            return;
+        }
+
+        int stride = Math.max(1, (int) Math.sqrt(chunkCount));
+        startFastLayer();
+        int gap = head.count;
+        int position = 1;
+        for (Chunk chunk = head.next; chunk != null; chunk = chunk.next, position++) {
+            chunk.fastLink = null;
+            if (position % stride == 0) {
+                insertFastNode(lastFast, chunk, gap);
+                gap = 0;
+            }
+            gap += chunk.count;
+        }
+    }
+
+    /**
+     * List iterator that walks the chunk arrays directly in both directions.
+     * Replacing an element writes into its chunk; insertion and removal go through
+     * {@link UnrolledSkipList#add(int, Object)} and {@link UnrolledSkipList#remove(int)} and then
+     * re-position, since a split or merge may move the remaining elements into another chunk.
+     */
+    private class ListItr implements java.util.ListIterator<E> {
+        /** Chunk holding the cursor, or null while the list has no chunk */
+        private Chunk chunk;
+
+        /** Offset of the cursor within its chunk; equal to the chunk's count at its end */
+        private int offset;
+
+        /** Index of the next element */
+        private int index;
+
+        /** Index of the element returned by the last call to next() or previous(), or -1 */
+        private int lastReturned = -1;
+
+        /** Chunk and offset of the element returned by the last call to next() or previous() */
+        private Chunk lastChunk;
+        private int lastOffset;
+
+        /** Modification count this iterator expects the list to have */
+        private int expectedModCount = modCount;
+
+        /**
+         * Constructs an iterator positioned before the element at the given index.
+         *
+         * @param index Index of the first element to be returned by next()
+         */
+        ListItr(int index) {
+            this.index = index;
+            reposition();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            if (index >= size) throw new java.util.NoSuchElementException();
+            while (offset >= chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            lastReturned = index++;
+            lastChunk = chunk;
+            lastOffset = offset;
+            return (E) chunk.items[offset++];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E previous() {
+            checkForComodification();
+            if (index <= 0) throw new java.util.NoSuchElementException();
+            while (offset == 0) {
+                chunk = chunk.prev;
+                offset = chunk.count;
+            }
+            lastReturned = --index;
+            lastChunk = chunk;
+            lastOffset = --offset;
+            return (E) chunk.items[offset];
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) throw new IllegalStateException();
+            checkForComodification();
+
+            UnrolledSkipList.this.remove(lastReturned);
+            index = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+            reposition();
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturned < 0) throw new IllegalStateException();
+            checkForComodification();
+            lastChunk.items[lastOffset] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            UnrolledSkipList.this.add(index++, e);
+            lastReturned = -1;
+            expectedModCount = modCount;
+            reposition();
+        }
+
+        /**
+         * Places the cursor on the chunk and offset of the current index.
+         */
+        private void reposition() {
+            if (fastHead == null) {
+                chunk = head;
+                offset = 0;
+                return;
+            }
+            locate(index);
+            chunk = cursorChunk;
+            offset = index - cursorStart;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) throw new java.util.ConcurrentModificationException();
+        }
+    }
+}